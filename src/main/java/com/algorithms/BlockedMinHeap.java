@@ -0,0 +1,246 @@
+package com.algorithms;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.metrics.Operation;
+import com.metrics.Tracker;
+
+// Binary min-heap in a B-heap layout (Kamp) for heaps far larger than the last-level cache. The array is
+// cut into blocks of 2^blockBits slots, by default 1024 ints = 4 KiB, the size of a page. Slot 0 of a block
+// is unused; slots 1 .. 2^blockBits - 1 hold a complete subtree with in-block children 2j and 2j + 1. The
+// two children of each of the block's bottom-row leaves are roots of child blocks, so a block has
+// 2^blockBits children and a root-to-leaf path crosses one block per blockBits - 1 levels instead of one
+// per level as in MinHeap's implicit layout. The JVM does not page-align an int[] (its data starts after
+// the array header), so a block usually straddles two pages: at most two pages and TLB entries per block.
+// Blocks are numbered breadth-first and filled one after another, so element f of the fill order lives in
+// block f / (2^blockBits - 1) at slot f % (2^blockBits - 1) + 1; the filled slots are always closed under
+// taking parents, which is all insert and extractMin need. Same surface as MinHeap, with indices and the
+// getHeap() view in fill order.
+public class BlockedMinHeap {
+    private static final int DEFAULT_BLOCK_BITS = 10;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int blockBits;
+    private final int blockSize;
+    private final int half;
+    private final int mask;
+    private int[] heap;
+    private int size;
+    private final GrowthPolicy growth;
+    private final Tracker tracker;
+
+    public BlockedMinHeap(Tracker tracker) {
+        this(tracker, DEFAULT_BLOCK_BITS, DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public BlockedMinHeap(Tracker tracker, int blockBits) {
+        this(tracker, blockBits, DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public BlockedMinHeap(Tracker tracker, int blockBits, int initialCapacity, GrowthPolicy growth) {
+        if (blockBits < 2 || blockBits > 20) throw new IllegalArgumentException("Block bits must be in [2, 20]");
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+        this.blockBits = blockBits;
+        this.blockSize = 1 << blockBits;
+        this.half = blockSize >> 1;
+        this.mask = blockSize - 1;
+        this.growth = Objects.requireNonNull(growth, "growth");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.heap = new int[slotsFor(initialCapacity)];
+    }
+
+    // fill index <-> physical slot; slots are longs where a child may lie past the end of the int range
+    private int slot(int f) {
+        return f / mask * blockSize + f % mask + 1;
+    }
+
+    private long fillIndex(long p) {
+        return p - (p >>> blockBits) - 1;
+    }
+
+    private int slotsFor(int elements) {
+        long blocks = ((long) elements + mask - 1) / mask;
+        long slots = blocks * blockSize;
+        if (slots > GrowthPolicy.MAX_CAPACITY) throw new OutOfMemoryError("Required heap capacity too large: " + elements);
+        return (int) slots;
+    }
+
+    private int parent(int p) {
+        int j = p & mask;
+        if (j > 1) return p - j + (j >>> 1);
+        int b = (p >>> blockBits) - 1;
+        return (b >>> blockBits << blockBits) + half + ((b & mask) >>> 1);
+    }
+
+    // left child; the right one is at firstChild + 1 inside a block, or one block further across blocks
+    private long firstChild(int p) {
+        int j = p & mask;
+        if (j < half) return p + j;
+        long childBlock = ((long) (p >>> blockBits) << blockBits) + 1 + 2 * (j - half);
+        return childBlock << blockBits | 1;
+    }
+
+    private long secondChild(int p, long first) {
+        return (p & mask) < half ? first + 1 : first + blockSize;
+    }
+
+    public void insert(int value) {
+        if (!tracker.isLatencyEnabled()) {
+            doInsert(value);
+            return;
+        }
+        long start = System.nanoTime();
+        doInsert(value);
+        tracker.recordLatency(Operation.INSERT, System.nanoTime() - start);
+    }
+
+    private void doInsert(int value) {
+        ensureCapacity(size + 1);
+        tracker.incrementInsert();
+        siftUp(slot(size++), value);
+    }
+
+    public int peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        return heap[1];
+    }
+
+    public int extractMin() {
+        if (!tracker.isLatencyEnabled()) return doExtractMin();
+        long start = System.nanoTime();
+        int min = doExtractMin();
+        tracker.recordLatency(Operation.EXTRACT_MIN, System.nanoTime() - start);
+        return min;
+    }
+
+    private int doExtractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        int min = heap[1];
+        int last = heap[slot(--size)];
+        tracker.incrementArrayAccesses(2);
+        if (size > 0) {
+            siftDown(1, last);
+        }
+        tracker.incrementExtract();
+        return min;
+    }
+
+    // index is a fill-order position, as in getHeap()
+    public void decreaseKey(int index, int newVal) {
+        if (index < 0 || index >= size) throw new IllegalArgumentException("Invalid index");
+        int p = slot(index);
+        int current = heap[p];
+        tracker.incrementArrayAccesses(1);
+        if (newVal > current) throw new IllegalArgumentException("New value is greater than current value");
+        siftUp(p, newVal);
+    }
+
+    public void addAll(int[] values) {
+        int k = values.length;
+        if (k == 0) return;
+        ensureCapacity(size + k);
+        if (!MinHeap.shouldRebuild(size, k)) {
+            for (int v : values) insert(v);
+            return;
+        }
+        for (int i = 0; i < k; i++) heap[slot(size + i)] = values[i];
+        tracker.incrementArrayAccesses(2L * k);
+        for (int i = 0; i < k; i++) tracker.incrementInsert();
+        size += k;
+        // reverse fill order visits every child before its parent
+        for (int f = size - 1; f >= 0; f--) {
+            int p = slot(f);
+            if (fillIndex(firstChild(p)) >= size) continue;
+            tracker.incrementArrayAccesses(1);
+            siftDown(p, heap[p]);
+        }
+    }
+
+    private void siftUp(int p, int value) {
+        int[] h = heap;
+        while (p > 1) {
+            int q = parent(p);
+            int pv = h[q];
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (pv <= value) break;
+            h[p] = pv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            p = q;
+        }
+        h[p] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    private void siftDown(int p, int value) {
+        int[] h = heap;
+        int n = size;
+        while (true) {
+            long l = firstChild(p);
+            if (fillIndex(l) >= n) break;
+            int smallest = (int) l;
+            int sv = h[smallest];
+            tracker.incrementArrayAccesses(1);
+            long r = secondChild(p, l);
+            if (fillIndex(r) < n) {
+                int rv = h[(int) r];
+                tracker.incrementArrayAccesses(1);
+                tracker.incrementComparisons();
+                if (rv < sv) {
+                    smallest = (int) r;
+                    sv = rv;
+                }
+            }
+            tracker.incrementComparisons();
+            if (sv >= value) break;
+            h[p] = sv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            p = smallest;
+        }
+        h[p] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    // grows in whole blocks
+    public void ensureCapacity(int minCapacity) {
+        int required = slotsFor(minCapacity);
+        if (required > heap.length) {
+            long next = GrowthPolicy.nextCapacity(growth, heap.length, required);
+            heap = Arrays.copyOf(heap, (int) Math.min((next + mask) & ~mask, GrowthPolicy.MAX_CAPACITY & ~mask));
+        }
+    }
+
+    public void clear() { size = 0; }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return heap.length / blockSize * mask; }
+    public int getBlockBits() { return blockBits; }
+
+    boolean isHeapOrdered() {
+        for (int f = 1; f < size; f++) {
+            int p = slot(f);
+            if (heap[parent(p)] > heap[p]) return false;
+        }
+        return true;
+    }
+
+    public List<Integer> getHeap() { return new HeapView(); }
+    public Tracker getTracker() { return tracker; }
+
+    private final class HeapView extends AbstractList<Integer> {
+        @Override
+        public Integer get(int index) {
+            Objects.checkIndex(index, size);
+            return heap[slot(index)];
+        }
+
+        @Override
+        public int size() { return size; }
+    }
+}
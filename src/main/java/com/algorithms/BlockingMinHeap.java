@@ -0,0 +1,23 @@
+package com.algorithms;
+
+import java.util.concurrent.TimeUnit;
+
+import com.metrics.Tracker;
+
+// Thread-safe int priority queue for multi-producer / multi-consumer use.
+public interface BlockingMinHeap {
+    void insert(int value);
+
+    // blocks until an element is available
+    int take() throws InterruptedException;
+
+    // null once the timeout elapses with the queue still empty
+    Integer poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    // null immediately if the queue is empty
+    Integer tryExtractMin();
+
+    int size();
+
+    Tracker getTracker();
+}
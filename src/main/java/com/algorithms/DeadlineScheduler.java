@@ -0,0 +1,251 @@
+package com.algorithms;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.metrics.Tracker;
+
+// Timeout scheduler for workloads where most timeouts are cancelled before they fire. Deadlines are longs in
+// whatever unit the caller uses (one unit is one wheel tick). Pending timeouts live in an ObjectMinHeap;
+// cancel() only marks a heap entry, and the heap is compacted once the marked entries exceed compactRatio
+// of it, so a cancel costs O(1) amortized. With wheelLevels > 0, deadlines within 64^wheelLevels ticks of
+// the wheel's clock go to a hierarchical timing wheel instead (64 slots per level, Varghese & Lauck), where
+// scheduling and cancelling are O(1) list operations and the per-tick cost is paid by expire().
+// Not thread-safe.
+public class DeadlineScheduler<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MAX_WHEEL_LEVELS = 10;
+    private static final double DEFAULT_COMPACT_RATIO = 0.5;
+    private static final int MIN_COMPACT_SIZE = 64;
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int FIRED = 2;
+
+    // Timeout.level for entries outside the wheel, and for entries of a slot detached by tick() that have
+    // not been fired or re-placed yet
+    private static final int NOT_IN_WHEEL = -1;
+    private static final int DETACHED = -2;
+
+    private final ObjectMinHeap<Timeout<T>> heap;
+    private final double compactRatio;
+    private final Tracker tracker;
+    private long sequence;
+    private int tombstones;
+
+    private final int wheelLevels;
+    private final Timeout<T>[] buckets;
+    private long wheelTime;
+    private int wheelSize;
+
+    public DeadlineScheduler(Tracker tracker) {
+        this(tracker, 0, 0L, DEFAULT_COMPACT_RATIO);
+    }
+
+    // startTime: the wheel's clock, i.e. the last time expire() is considered to have run
+    public DeadlineScheduler(Tracker tracker, int wheelLevels, long startTime) {
+        this(tracker, wheelLevels, startTime, DEFAULT_COMPACT_RATIO);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DeadlineScheduler(Tracker tracker, int wheelLevels, long startTime, double compactRatio) {
+        if (wheelLevels < 0 || wheelLevels > MAX_WHEEL_LEVELS) throw new IllegalArgumentException("Wheel levels must be in [0, " + MAX_WHEEL_LEVELS + "]");
+        if (!(compactRatio > 0)) throw new IllegalArgumentException("Compaction ratio must be positive");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.compactRatio = compactRatio;
+        this.heap = new ObjectMinHeap<>(Comparator.<Timeout<T>>comparingLong(t -> t.deadline).thenComparingLong(t -> t.seq), tracker);
+        this.wheelLevels = wheelLevels;
+        this.buckets = new Timeout[wheelLevels * SLOTS];
+        this.wheelTime = startTime;
+    }
+
+    public Timeout<T> schedule(long deadline, T task) {
+        Timeout<T> t = new Timeout<>(deadline, task, sequence++);
+        if (addToWheel(t)) {
+            tracker.incrementInsert();
+        } else {
+            heap.insert(t);
+        }
+        return t;
+    }
+
+    // false if the timeout already fired or was cancelled
+    public boolean cancel(Timeout<T> t) {
+        if (t.state != PENDING) return false;
+        t.state = CANCELLED;
+        // a detached entry is already off its list; tick() skips it when it gets there
+        if (t.level == DETACHED) return true;
+        if (t.level >= 0) {
+            unlink(t);
+            return true;
+        }
+        tombstones++;
+        if (tombstones >= MIN_COMPACT_SIZE && tombstones > compactRatio * (heap.size() - tombstones)) compact();
+        return true;
+    }
+
+    private void compact() {
+        heap.removeIf(t -> t.state == CANCELLED);
+        tombstones = 0;
+    }
+
+    // Hands every pending task with deadline <= now to sink in deadline order (ties in schedule order within
+    // the heap) and returns how many fired. now may not move the wheel backwards.
+    public int expire(long now, Consumer<? super T> sink) {
+        int fired = 0;
+        while (wheelTime < now) {
+            if (wheelSize == 0) {
+                wheelTime = now;
+                break;
+            }
+            fired += tick(wheelTime + 1, sink);
+        }
+        return fired + drainHeap(now, sink);
+    }
+
+    private int drainHeap(long now, Consumer<? super T> sink) {
+        int fired = 0;
+        while (!heap.isEmpty() && heap.peek().deadline <= now) {
+            Timeout<T> t = heap.extractMin();
+            if (t.state == CANCELLED) {
+                tombstones--;
+                continue;
+            }
+            fired += fire(t, sink);
+        }
+        return fired;
+    }
+
+    private int fire(Timeout<T> t, Consumer<? super T> sink) {
+        t.state = FIRED;
+        sink.accept(t.task);
+        return 1;
+    }
+
+    // moves the wheel to time: cascades the higher-level slots that start at time, then fires its level-0 slot
+    private int tick(long time, Consumer<? super T> sink) {
+        wheelTime = time;
+        for (int level = wheelLevels - 1; level >= 1; level--) {
+            if ((time & ((1L << (SLOT_BITS * level)) - 1)) != 0) continue;
+            Timeout<T> t = detach(level * SLOTS + slotOf(time, level));
+            while (t != null) {
+                Timeout<T> next = t.next;
+                t.next = null;
+                t.prev = null;
+                t.level = NOT_IN_WHEEL;
+                if (t.state != PENDING) {
+                    t = next;
+                    continue;
+                }
+                if (t.deadline == time) {
+                    link(t, 0, slotOf(time, 0));
+                } else if (!addToWheel(t)) {
+                    heap.insert(t);
+                }
+                t = next;
+            }
+        }
+        int fired = drainHeap(time - 1, sink);
+        Timeout<T> t = detach(slotOf(time, 0));
+        while (t != null) {
+            Timeout<T> next = t.next;
+            t.next = null;
+            t.prev = null;
+            t.level = NOT_IN_WHEEL;
+            // the callback of an earlier entry may have cancelled this one
+            if (t.state == PENDING) {
+                tracker.incrementExtract();
+                fired += fire(t, sink);
+            }
+            t = next;
+        }
+        return fired;
+    }
+
+    // The level is the highest 6-bit group in which deadline and the wheel clock differ, so an entry is
+    // cascaded exactly when the clock enters the group it is waiting for. Deadlines at or before the clock,
+    // or beyond the outermost level, stay in the heap.
+    private boolean addToWheel(Timeout<T> t) {
+        if (wheelLevels == 0 || t.deadline <= wheelTime) return false;
+        long diff = t.deadline ^ wheelTime;
+        int level = (63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS;
+        if (level >= wheelLevels) return false;
+        link(t, level, level * SLOTS + slotOf(t.deadline, level));
+        return true;
+    }
+
+    private void link(Timeout<T> t, int level, int b) {
+        Timeout<T> head = buckets[b];
+        t.prev = null;
+        t.next = head;
+        if (head != null) head.prev = t;
+        buckets[b] = t;
+        t.level = level;
+        t.bucket = b;
+        wheelSize++;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    private void unlink(Timeout<T> t) {
+        if (t.prev != null) {
+            t.prev.next = t.next;
+        } else {
+            buckets[t.bucket] = t.next;
+        }
+        if (t.next != null) t.next.prev = t.prev;
+        t.next = null;
+        t.prev = null;
+        t.level = NOT_IN_WHEEL;
+        wheelSize--;
+    }
+
+    private Timeout<T> detach(int b) {
+        Timeout<T> head = buckets[b];
+        if (head == null) return null;
+        buckets[b] = null;
+        for (Timeout<T> t = head; t != null; t = t.next) {
+            t.level = DETACHED;
+            wheelSize--;
+        }
+        tracker.incrementArrayAccesses(1);
+        return head;
+    }
+
+    private static int slotOf(long time, int level) {
+        return (int) (time >>> (SLOT_BITS * level)) & (SLOTS - 1);
+    }
+
+    // pending timeouts, wherever they are held
+    public int size() { return heap.size() - tombstones + wheelSize; }
+    public boolean isEmpty() { return size() == 0; }
+    public int heapSize() { return heap.size(); }
+    public int wheelSize() { return wheelSize; }
+    public int tombstones() { return tombstones; }
+    public long wheelTime() { return wheelTime; }
+    public Tracker getTracker() { return tracker; }
+
+    public static final class Timeout<T> {
+        private final long deadline;
+        private final T task;
+        private final long seq;
+        private int state = PENDING;
+        // wheel level, or NOT_IN_WHEEL / DETACHED
+        private int level = NOT_IN_WHEEL;
+        private int bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(long deadline, T task, long seq) {
+            this.deadline = deadline;
+            this.task = task;
+            this.seq = seq;
+        }
+
+        public long deadline() { return deadline; }
+        public T task() { return task; }
+        public boolean isPending() { return state == PENDING; }
+        public boolean isCancelled() { return state == CANCELLED; }
+    }
+}
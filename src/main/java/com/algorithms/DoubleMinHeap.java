@@ -0,0 +1,151 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.metrics.Tracker;
+
+// Binary min-heap specialised for double keys (scores); never boxes. NaN has no place in the order and is rejected.
+public class DoubleMinHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] heap;
+    private int size;
+    private final Tracker tracker;
+
+    public DoubleMinHeap(Tracker tracker) {
+        this(tracker, DEFAULT_CAPACITY);
+    }
+
+    public DoubleMinHeap(Tracker tracker, int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+        this.heap = new double[initialCapacity];
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+    }
+
+    private int parent(int i) { return (i - 1) / 2; }
+    private int left(int i) { return 2 * i + 1; }
+
+    public void insert(double value) {
+        checkNotNaN(value);
+        ensureCapacity(size + 1);
+        tracker.incrementInsert();
+        siftUp(size++, value);
+    }
+
+    public double peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        return heap[0];
+    }
+
+    public double extractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        double min = heap[0];
+        double last = heap[--size];
+        tracker.incrementArrayAccesses(2);
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        tracker.incrementExtract();
+        return min;
+    }
+
+    public void decreaseKey(int index, double newVal) {
+        if (index < 0 || index >= size) throw new IllegalArgumentException("Invalid index");
+        checkNotNaN(newVal);
+        double current = heap[index];
+        tracker.incrementArrayAccesses(1);
+        if (newVal > current) throw new IllegalArgumentException("New value is greater than current value");
+        siftUp(index, newVal);
+    }
+
+    public void addAll(double[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    private void addAll(double[] values, int off, int k) {
+        for (int i = off; i < off + k; i++) checkNotNaN(values[i]);
+        if (k == 0) return;
+        ensureCapacity(size + k);
+        if (!MinHeap.shouldRebuild(size, k)) {
+            for (int i = off; i < off + k; i++) insert(values[i]);
+            return;
+        }
+        System.arraycopy(values, off, heap, size, k);
+        tracker.incrementArrayAccesses(2L * k);
+        for (int i = 0; i < k; i++) tracker.incrementInsert();
+        size += k;
+        for (int i = parent(size - 1); i >= 0; i--) {
+            tracker.incrementArrayAccesses(1);
+            siftDown(i, heap[i]);
+        }
+    }
+
+    public void merge(DoubleMinHeap other) {
+        double[] values = other == this ? Arrays.copyOf(heap, size) : other.heap;
+        addAll(values, 0, other.size);
+    }
+
+    private static void checkNotNaN(double value) {
+        if (Double.isNaN(value)) throw new IllegalArgumentException("NaN is not comparable");
+    }
+
+    private void siftUp(int i, double value) {
+        double[] h = heap;
+        while (i > 0) {
+            int p = parent(i);
+            double pv = h[p];
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (pv <= value) break;
+            h[i] = pv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = p;
+        }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    private void siftDown(int i, double value) {
+        double[] h = heap;
+        int n = size;
+        while (true) {
+            int l = left(i);
+            if (l >= n) break;
+            int smallest = l;
+            double sv = h[l];
+            tracker.incrementArrayAccesses(1);
+            int r = l + 1;
+            if (r < n) {
+                double rv = h[r];
+                tracker.incrementArrayAccesses(1);
+                tracker.incrementComparisons();
+                if (rv < sv) {
+                    smallest = r;
+                    sv = rv;
+                }
+            }
+            tracker.incrementComparisons();
+            if (sv >= value) break;
+            h[i] = sv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = smallest;
+        }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            heap = Arrays.copyOf(heap, GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, heap.length, minCapacity));
+        }
+    }
+
+    public void clear() { size = 0; }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public Tracker getTracker() { return tracker; }
+}
@@ -0,0 +1,10 @@
+package com.algorithms;
+
+public enum DurabilityMode {
+    // records reach the OS when the buffer fills; never fsynced
+    NONE,
+    // group commit: fsync once the batch reaches its size or age threshold
+    BATCHED,
+    // fsync after every record
+    PER_OP
+}
@@ -0,0 +1,132 @@
+package com.algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.metrics.Tracker;
+
+// MinHeap backed by a snapshot plus a write-ahead log of every mutation since that snapshot. Each operation
+// is validated, logged, then applied, so replaying the log over the snapshot reproduces the heap exactly.
+// checkpoint() writes a fresh snapshot and starts an empty log; the log header carries the checksum of its
+// snapshot, so a log left over from a crash between those two steps is recognised as stale and ignored.
+public class DurableMinHeap implements Closeable {
+    private static final int DEFAULT_BATCH_BYTES = 64 * 1024;
+    private static final long DEFAULT_MAX_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final MinHeap heap;
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final DurabilityMode mode;
+    private final int batchBytes;
+    private final long maxDelayNanos;
+    private HeapOperationLog log;
+
+    private DurableMinHeap(MinHeap heap, Path snapshotFile, Path logFile, DurabilityMode mode, int batchBytes,
+                           long maxDelayNanos, HeapOperationLog log) {
+        this.heap = heap;
+        this.snapshotFile = snapshotFile;
+        this.logFile = logFile;
+        this.mode = mode;
+        this.batchBytes = batchBytes;
+        this.maxDelayNanos = maxDelayNanos;
+        this.log = log;
+    }
+
+    public static DurableMinHeap recover(Path snapshotFile, Path logFile, Tracker tracker, DurabilityMode mode)
+            throws IOException {
+        return recover(snapshotFile, logFile, tracker, mode, DEFAULT_BATCH_BYTES, DEFAULT_MAX_DELAY_NANOS,
+                TimeUnit.NANOSECONDS);
+    }
+
+    // Loads the snapshot if present (an empty binary heap otherwise) and replays the log on top of it.
+    // A torn record at the end of the log is dropped. In BATCHED mode the log is fsynced once batchBytes
+    // are pending or the oldest unsynced record is older than maxDelay.
+    public static DurableMinHeap recover(Path snapshotFile, Path logFile, Tracker tracker, DurabilityMode mode,
+                                         int batchBytes, long maxDelay, TimeUnit unit) throws IOException {
+        Objects.requireNonNull(tracker, "tracker");
+        Objects.requireNonNull(mode, "mode");
+        MinHeap heap;
+        long base;
+        if (Files.exists(snapshotFile)) {
+            heap = HeapSnapshot.read(snapshotFile, tracker, true);
+            base = HeapSnapshot.checksumOf(snapshotFile);
+        } else {
+            heap = new MinHeap(tracker);
+            base = HeapOperationLog.NO_SNAPSHOT;
+        }
+        long maxDelayNanos = unit.toNanos(maxDelay);
+        long valid = HeapOperationLog.replay(logFile, base, heap);
+        HeapOperationLog log = valid < 0
+                ? HeapOperationLog.create(logFile, base, mode, batchBytes, maxDelayNanos, tracker)
+                : HeapOperationLog.append(logFile, valid, mode, batchBytes, maxDelayNanos, tracker);
+        return new DurableMinHeap(heap, snapshotFile, logFile, mode, batchBytes, maxDelayNanos, log);
+    }
+
+    public void insert(int value) throws IOException {
+        log.append(HeapOperationLog.INSERT, value, 0);
+        heap.insert(value);
+    }
+
+    public int extractMin() throws IOException {
+        if (heap.isEmpty()) throw new IllegalStateException("Heap is empty");
+        log.append(HeapOperationLog.EXTRACT_MIN, 0, 0);
+        return heap.extractMin();
+    }
+
+    public void decreaseKey(int index, int newVal) throws IOException {
+        if (index < 0 || index >= heap.size()) throw new IllegalArgumentException("Invalid index");
+        if (newVal > heap.slots()[heap.base() + index]) throw new IllegalArgumentException("New value is greater than current value");
+        log.append(HeapOperationLog.DECREASE_KEY, index, newVal);
+        heap.decreaseKey(index, newVal);
+    }
+
+    public int peek() { return heap.peek(); }
+
+    // forces every logged operation to disk regardless of the durability mode
+    public void sync() throws IOException {
+        log.sync();
+    }
+
+    // Replaces the snapshot with the current heap and truncates the log. The snapshot is written beside
+    // the target and renamed over it, so a crash leaves either the old snapshot and log or the new one.
+    public void checkpoint() throws IOException {
+        log.sync();
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        HeapSnapshot.write(heap, tmp);
+        Files.move(tmp, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(snapshotFile.toAbsolutePath().getParent());
+        long base = HeapSnapshot.checksumOf(snapshotFile);
+        log.close();
+        log = HeapOperationLog.create(logFile, base, mode, batchBytes, maxDelayNanos, heap.getTracker());
+    }
+
+    // makes the rename durable; not every platform can open a directory, which only weakens that guarantee
+    private static void syncDirectory(Path dir) {
+        if (dir == null) return;
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // best effort
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    public int size() { return heap.size(); }
+    public boolean isEmpty() { return heap.isEmpty(); }
+    public List<Integer> getHeap() { return heap.getHeap(); }
+    public long logLength() { return log.length(); }
+    public DurabilityMode getMode() { return mode; }
+    public Tracker getTracker() { return heap.getTracker(); }
+}
@@ -0,0 +1,286 @@
+package com.algorithms;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import com.metrics.Tracker;
+
+// Sorts a file of little-endian ints that need not fit in memory. Run formation reads runElements ints at
+// a time and sorts and writes each run on a worker thread. The runs are then merged fanIn at a time, with
+// an IndexedMinHeap keyed by each run's head, until one remains; the merges of one pass run in parallel.
+// Every comparison of the merge phase is reported to the tracker, which must therefore be thread-safe.
+public class ExternalSorter {
+    private final int runElements;
+    private final int fanIn;
+    private final int bufferBytes;
+    private final int threads;
+    private final Tracker tracker;
+
+    public ExternalSorter(int runElements, int fanIn, int bufferBytes, int threads, Tracker tracker) {
+        // a run's bytes must stay addressable by int
+        if (runElements < 1 || runElements > Integer.MAX_VALUE / 4) {
+            throw new IllegalArgumentException("Run size must be in [1, " + Integer.MAX_VALUE / 4 + "]: " + runElements);
+        }
+        if (fanIn < 2) throw new IllegalArgumentException("Fan-in must be at least 2");
+        if (bufferBytes < 4) throw new IllegalArgumentException("Buffer must hold at least one int");
+        if (threads < 1) throw new IllegalArgumentException("Thread count must be positive");
+        this.runElements = runElements;
+        this.fanIn = fanIn;
+        this.bufferBytes = bufferBytes & ~3;
+        this.threads = threads;
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+    }
+
+    public Result sort(Path input, Path output, Path tmpDir) throws IOException {
+        long size = Files.size(input);
+        if (size % 4 != 0) throw new IOException("Input length is not a multiple of 4 bytes: " + input);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Path> runs = formRuns(input, tmpDir, pool);
+            int runCount = runs.size();
+            long formed = System.nanoTime();
+            int passes = 0;
+            if (runs.isEmpty()) {
+                Files.write(output, new byte[0]);
+            } else if (runs.size() == 1) {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                while (runs.size() > fanIn) {
+                    runs = mergePass(runs, tmpDir, pool);
+                    passes++;
+                }
+                merge(runs, output);
+                passes++;
+            }
+            long end = System.nanoTime();
+            return new Result(size / 4, runCount, passes, formed - start, end - formed);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Path> formRuns(Path input, Path tmpDir, ExecutorService pool) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        List<Future<?>> pending = new ArrayList<>();
+        // bounds the chunks held in memory to one per worker plus the one being read; I/O goes through
+        // bufferBytes-sized buffers, so those chunks are the only run-sized allocations
+        Semaphore inFlight = new Semaphore(threads);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long remaining = in.size() / 4;
+            while (remaining > 0) {
+                int[] chunk = new int[(int) Math.min(runElements, remaining)];
+                readFully(in, bytes, chunk, input);
+                remaining -= chunk.length;
+                Path run = Files.createTempFile(tmpDir, "run", ".bin");
+                runs.add(run);
+                acquire(inFlight);
+                pending.add(pool.submit(() -> {
+                    try {
+                        Arrays.sort(chunk);
+                        writeRun(chunk, run);
+                        return null;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+        awaitAll(pending);
+        return runs;
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer bytes, int[] chunk, Path input) throws IOException {
+        for (int filled = 0; filled < chunk.length; ) {
+            bytes.clear();
+            bytes.limit((int) Math.min(bytes.capacity(), (long) (chunk.length - filled) * 4));
+            while (bytes.hasRemaining()) {
+                if (in.read(bytes) < 0) throw new EOFException("Input shrank while reading: " + input);
+            }
+            bytes.flip();
+            int n = bytes.remaining() / 4;
+            bytes.asIntBuffer().get(chunk, filled, n);
+            filled += n;
+        }
+    }
+
+    private void writeRun(int[] chunk, Path run) throws IOException {
+        ByteBuffer out = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer ints = out.asIntBuffer();
+        try (FileChannel channel = FileChannel.open(run, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int from = 0; from < chunk.length; from += ints.capacity()) {
+                int n = Math.min(ints.capacity(), chunk.length - from);
+                ints.clear();
+                ints.put(chunk, from, n);
+                out.clear().limit(n * 4);
+                while (out.hasRemaining()) channel.write(out);
+            }
+        }
+    }
+
+    private List<Path> mergePass(List<Path> runs, Path tmpDir, ExecutorService pool) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        List<Future<?>> pending = new ArrayList<>();
+        for (int from = 0; from < runs.size(); from += fanIn) {
+            List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+            Path target = Files.createTempFile(tmpDir, "run", ".bin");
+            merged.add(target);
+            pending.add(pool.submit(() -> {
+                merge(group, target);
+                return null;
+            }));
+        }
+        awaitAll(pending);
+        return merged;
+    }
+
+    // k-way merge of sorted runs into target; the inputs are deleted afterwards
+    private void merge(List<Path> group, Path target) throws IOException {
+        RunReader[] readers = new RunReader[group.size()];
+        IndexedMinHeap heads = new IndexedMinHeap(readers.length, tracker);
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int r = 0; r < readers.length; r++) {
+                readers[r] = new RunReader(group.get(r), bufferBytes);
+                if (readers[r].hasNext()) heads.insert(r, readers[r].next());
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            IntBuffer ints = buffer.asIntBuffer();
+            while (!heads.isEmpty()) {
+                int r = heads.peekId();
+                ints.put(heads.peekKey());
+                if (!ints.hasRemaining()) {
+                    flush(out, buffer, ints);
+                }
+                // the next head is never smaller, so it replaces the root with one sift-down
+                if (readers[r].hasNext()) {
+                    heads.increaseKey(r, readers[r].next());
+                } else {
+                    heads.extractMinId();
+                }
+            }
+            flush(out, buffer, ints);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+        for (Path run : group) Files.deleteIfExists(run);
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer, IntBuffer ints) throws IOException {
+        buffer.position(0).limit(ints.position() * 4);
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+        ints.clear();
+    }
+
+    private static void acquire(Semaphore semaphore) throws IOException {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while forming runs", e);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> pending) throws IOException {
+        for (Future<?> f : pending) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while sorting", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    // sequential reader over one run file through a reusable direct buffer
+    private static final class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean eof;
+
+        RunReader(Path run, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(0);
+        }
+
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= 4) return true;
+            if (eof) return false;
+            buffer.compact();
+            while (buffer.position() < 4 || buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= 4;
+        }
+
+        int next() {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    public static final class Result {
+        private final long elements;
+        private final int runs;
+        private final int mergePasses;
+        private final long runFormationNanos;
+        private final long mergeNanos;
+
+        Result(long elements, int runs, int mergePasses, long runFormationNanos, long mergeNanos) {
+            this.elements = elements;
+            this.runs = runs;
+            this.mergePasses = mergePasses;
+            this.runFormationNanos = runFormationNanos;
+            this.mergeNanos = mergeNanos;
+        }
+
+        public long getElements() { return elements; }
+        public long getBytes() { return elements * 4; }
+        public int getRuns() { return runs; }
+        public int getMergePasses() { return mergePasses; }
+        // run formation reads and writes the data once, then each merge pass does
+        public int getPasses() { return runs == 0 ? 0 : 1 + mergePasses; }
+        public long getRunFormationNanos() { return runFormationNanos; }
+        public long getMergeNanos() { return mergeNanos; }
+        public long getTotalNanos() { return runFormationNanos + mergeNanos; }
+
+        public double throughputMBps() {
+            long nanos = getTotalNanos();
+            return nanos == 0 ? 0 : getBytes() / 1e6 / (nanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.algorithms;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.metrics.Tracker;
+
+// Hunt, Michael, Parthasarathy & Scott (1996): one lock per slot, hand-over-hand sifts, and a short global
+// lock that only guards `size`. Inserts sift bottom-up and tag their item with the owning thread id so that
+// a concurrent delete can move it without the inserter losing track of it; deletes sift top-down.
+// Slots are 1-based and the capacity is fixed.
+public class FineGrainedMinHeap implements BlockingMinHeap {
+    private static final long EMPTY = 0;
+    private static final long AVAILABLE = -1;
+
+    private final int capacity;
+    private final int[] priority;
+    private final long[] tag;
+    private final ReentrantLock[] locks;
+    private final ReentrantLock heapLock = new ReentrantLock();
+    private int size;
+    // one permit per fully inserted element, so a consumer holding a permit always finds size >= 1
+    private final Semaphore available = new Semaphore(0);
+    private final Tracker tracker;
+
+    public FineGrainedMinHeap(int capacity, Tracker tracker) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+        this.priority = new int[capacity + 1];
+        this.tag = new long[capacity + 1];
+        this.locks = new ReentrantLock[capacity + 1];
+        for (int i = 1; i <= capacity; i++) locks[i] = new ReentrantLock();
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+    }
+
+    @Override
+    public void insert(int value) {
+        long me = Thread.currentThread().getId();
+        int i;
+        heapLock.lock();
+        try {
+            if (size == capacity) throw new IllegalStateException("Heap is full");
+            i = ++size;
+            locks[i].lock();
+        } finally {
+            heapLock.unlock();
+        }
+        priority[i] = value;
+        tag[i] = me;
+        locks[i].unlock();
+        tracker.incrementArrayAccesses(2);
+        tracker.incrementInsert();
+
+        while (i > 1) {
+            int p = i >>> 1;
+            int current = i;
+            locks[p].lock();
+            locks[current].lock();
+            try {
+                tracker.incrementArrayAccesses(2);
+                if (tag[p] == AVAILABLE && tag[current] == me) {
+                    tracker.incrementArrayAccesses(2);
+                    tracker.incrementComparisons();
+                    if (priority[current] < priority[p]) {
+                        swapSlots(current, p);
+                        i = p;
+                    } else {
+                        tag[current] = AVAILABLE;
+                        i = 0;
+                    }
+                } else if (tag[p] == EMPTY) {
+                    // our item was taken to the root by a delete and is already settled
+                    i = 0;
+                } else if (tag[current] != me) {
+                    // a delete swapped our item one level up
+                    i = p;
+                }
+                // otherwise the parent is still being inserted by someone else: retry
+            } finally {
+                locks[current].unlock();
+                locks[p].unlock();
+            }
+        }
+        if (i == 1) {
+            locks[1].lock();
+            try {
+                if (tag[1] == me) tag[1] = AVAILABLE;
+            } finally {
+                locks[1].unlock();
+            }
+        }
+        available.release();
+    }
+
+    @Override
+    public int take() throws InterruptedException {
+        available.acquire();
+        return deleteMin();
+    }
+
+    @Override
+    public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return available.tryAcquire(timeout, unit) ? deleteMin() : null;
+    }
+
+    @Override
+    public Integer tryExtractMin() {
+        return available.tryAcquire() ? deleteMin() : null;
+    }
+
+    private int deleteMin() {
+        int bottom;
+        heapLock.lock();
+        try {
+            bottom = size--;
+            locks[bottom].lock();
+        } finally {
+            heapLock.unlock();
+        }
+        int result = priority[bottom];
+        tag[bottom] = EMPTY;
+        locks[bottom].unlock();
+        tracker.incrementArrayAccesses(2);
+        tracker.incrementExtract();
+
+        locks[1].lock();
+        if (tag[1] == EMPTY) {
+            // the bottom slot was the root
+            locks[1].unlock();
+            return result;
+        }
+        int top = priority[1];
+        priority[1] = result;
+        tag[1] = AVAILABLE;
+        tracker.incrementArrayAccesses(3);
+        result = top;
+
+        int i = 1;
+        while (true) {
+            int l = 2 * i;
+            int r = l + 1;
+            if (l > capacity) break;
+            locks[l].lock();
+            boolean hasRight = r <= capacity;
+            if (hasRight) locks[r].lock();
+            tracker.incrementArrayAccesses(2);
+            int child;
+            if (tag[l] == EMPTY) {
+                locks[l].unlock();
+                if (hasRight) locks[r].unlock();
+                break;
+            } else if (!hasRight || tag[r] == EMPTY || less(l, r)) {
+                if (hasRight) locks[r].unlock();
+                child = l;
+            } else {
+                locks[l].unlock();
+                child = r;
+            }
+            if (less(child, i)) {
+                swapSlots(child, i);
+                locks[i].unlock();
+                i = child;
+            } else {
+                locks[child].unlock();
+                break;
+            }
+        }
+        locks[i].unlock();
+        return result;
+    }
+
+    private boolean less(int a, int b) {
+        tracker.incrementArrayAccesses(2);
+        tracker.incrementComparisons();
+        return priority[a] < priority[b];
+    }
+
+    private void swapSlots(int a, int b) {
+        int p = priority[a];
+        priority[a] = priority[b];
+        priority[b] = p;
+        long t = tag[a];
+        tag[a] = tag[b];
+        tag[b] = t;
+        tracker.incrementArrayAccesses(8);
+        tracker.incrementSwap();
+    }
+
+    @Override
+    public int size() { return available.availablePermits(); }
+
+    public int capacity() { return capacity; }
+
+    @Override
+    public Tracker getTracker() { return tracker; }
+}
@@ -0,0 +1,28 @@
+package com.algorithms;
+
+@FunctionalInterface
+public interface GrowthPolicy {
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    // computed in long: past 2^30 slots an int doubling wraps negative and every insert would grow by one
+    GrowthPolicy DOUBLING = (current, required) -> (int) Math.min((long) current << 1, MAX_CAPACITY);
+    GrowthPolicy ONE_AND_HALF = (current, required) -> (int) Math.min(current + (long) (current >> 1), MAX_CAPACITY);
+
+    // proposes the next capacity; callers clamp it to [required, MAX_CAPACITY]
+    int grow(int currentCapacity, int requiredCapacity);
+
+    static GrowthPolicy fixedIncrement(int step) {
+        if (step <= 0) throw new IllegalArgumentException("Step must be positive");
+        return (current, required) -> (int) Math.min((long) current + step, MAX_CAPACITY);
+    }
+
+    static int nextCapacity(GrowthPolicy policy, int currentCapacity, int requiredCapacity) {
+        if (requiredCapacity < 0 || requiredCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required heap capacity too large: " + requiredCapacity);
+        }
+        long proposed = policy.grow(currentCapacity, requiredCapacity);
+        if (proposed < requiredCapacity) proposed = requiredCapacity;
+        if (proposed > MAX_CAPACITY) proposed = MAX_CAPACITY;
+        return (int) proposed;
+    }
+}
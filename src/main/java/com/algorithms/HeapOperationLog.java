@@ -0,0 +1,232 @@
+package com.algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import com.metrics.Operation;
+import com.metrics.Tracker;
+
+// Append-only log of heap mutations. Layout, little-endian:
+//   header: int magic "MHWL", int version, long checksum of the snapshot the records apply to
+//   record: byte opcode, int a, int b, int CRC32C of the first nine bytes
+//           (insert: a = value; decreaseKey: a = index, b = new value)
+// Replay stops at the first short record or checksum mismatch, which is where a torn or zero-filled tail
+// write begins, and the log is truncated there on reopen.
+// Records collect in a buffer and are written and fsynced as a group according to the DurabilityMode.
+// In BATCHED mode the first record of a batch also schedules a flush on a shared daemon thread, so a quiet
+// log still reaches disk once its oldest record is maxDelay old. A failure there is rethrown by the next call.
+public final class HeapOperationLog implements Closeable {
+    static final byte INSERT = 1;
+    static final byte EXTRACT_MIN = 2;
+    static final byte DECREASE_KEY = 3;
+
+    public static final long NO_SNAPSHOT = -1;
+
+    private static final int MAGIC = 0x4d48574c;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final int PAYLOAD_BYTES = 9;
+    static final int RECORD_BYTES = PAYLOAD_BYTES + 4;
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "heap-log-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final DurabilityMode mode;
+    private final int batchBytes;
+    private final long maxDelayNanos;
+    private final Tracker tracker;
+    private final CRC32C crc = new CRC32C();
+    private long position;
+    private int pendingRecords;
+    private boolean unsynced;
+    private long batchStartNs;
+    private boolean closed;
+    private IOException flushFailure;
+
+    private HeapOperationLog(FileChannel channel, long position, DurabilityMode mode, int batchBytes,
+                             long maxDelayNanos, Tracker tracker) {
+        if (batchBytes < RECORD_BYTES) throw new IllegalArgumentException("Batch must hold at least one record");
+        this.channel = channel;
+        this.position = position;
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.batchBytes = batchBytes;
+        this.maxDelayNanos = maxDelayNanos;
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.buffer = ByteBuffer.allocateDirect(batchBytes + RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // starts an empty log on top of the snapshot identified by baseChecksum
+    static HeapOperationLog create(Path file, long baseChecksum, DurabilityMode mode, int batchBytes,
+                                   long maxDelayNanos, Tracker tracker) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(baseChecksum).flip();
+        while (header.hasRemaining()) channel.write(header, header.position());
+        channel.force(true);
+        return new HeapOperationLog(channel, HEADER_BYTES, mode, batchBytes, maxDelayNanos, tracker);
+    }
+
+    // reopens a replayed log, dropping any torn record past validLength
+    static HeapOperationLog append(Path file, long validLength, DurabilityMode mode, int batchBytes,
+                                   long maxDelayNanos, Tracker tracker) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        return new HeapOperationLog(channel, validLength, mode, batchBytes, maxDelayNanos, tracker);
+    }
+
+    // Applies every intact record to heap. Returns the length of the valid prefix, or -1 when there is
+    // no log or it was written against a different snapshot (its effects are already in the snapshot).
+    static long replay(Path file, long baseChecksum, MinHeap heap) throws IOException {
+        if (!Files.exists(file)) return -1;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) return -1;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(HEADER_BYTES);
+            channel.read(buffer, 0);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getLong(8) != baseChecksum) return -1;
+
+            CRC32C crc = new CRC32C();
+            long position = HEADER_BYTES;
+            buffer.clear();
+            while (channel.read(buffer, position + buffer.position()) > 0 || buffer.position() > 0) {
+                buffer.flip();
+                if (buffer.remaining() < RECORD_BYTES) break;
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    int start = buffer.position();
+                    int end = buffer.limit();
+                    crc.reset();
+                    buffer.limit(start + PAYLOAD_BYTES);
+                    crc.update(buffer);
+                    buffer.limit(end);
+                    if (buffer.getInt() != (int) crc.getValue()) return position;
+                    apply(heap, buffer.get(start), buffer.getInt(start + 1), buffer.getInt(start + 5), position);
+                    position += RECORD_BYTES;
+                }
+                buffer.compact();
+            }
+            return position;
+        }
+    }
+
+    private static void apply(MinHeap heap, byte op, int a, int b, long position) throws IOException {
+        switch (op) {
+            case INSERT:
+                heap.insert(a);
+                break;
+            case EXTRACT_MIN:
+                heap.extractMin();
+                break;
+            case DECREASE_KEY:
+                heap.decreaseKey(a, b);
+                break;
+            default:
+                throw new IOException("Corrupt log record at offset " + position + ": opcode " + op);
+        }
+    }
+
+    synchronized void append(byte op, int a, int b) throws IOException {
+        rethrowFlushFailure();
+        if (buffer.position() + RECORD_BYTES > buffer.capacity()) writeBuffer();
+        if (pendingRecords == 0 && !unsynced) {
+            batchStartNs = System.nanoTime();
+            if (mode == DurabilityMode.BATCHED) FLUSHER.schedule(this::flushIfDue, maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        int start = buffer.position();
+        buffer.put(op).putInt(a).putInt(b);
+        // update() reads [position, limit), so fence the payload in and leave the position after it
+        crc.reset();
+        buffer.position(start).limit(start + PAYLOAD_BYTES);
+        crc.update(buffer);
+        buffer.limit(buffer.capacity());
+        buffer.putInt((int) crc.getValue());
+        pendingRecords++;
+        switch (mode) {
+            case PER_OP:
+                sync();
+                break;
+            case BATCHED:
+                if (buffer.position() >= batchBytes || System.nanoTime() - batchStartNs >= maxDelayNanos) sync();
+                break;
+            case NONE:
+            default:
+                break;
+        }
+    }
+
+    // runs on the flusher; a batch that was synced and restarted since scheduling has its own task queued
+    private synchronized void flushIfDue() {
+        if (closed || flushFailure != null || (pendingRecords == 0 && !unsynced)) return;
+        if (System.nanoTime() - batchStartNs < maxDelayNanos) return;
+        try {
+            sync();
+        } catch (IOException e) {
+            flushFailure = e;
+        }
+    }
+
+    private void rethrowFlushFailure() throws IOException {
+        if (flushFailure != null) throw new IOException("Background log flush failed", flushFailure);
+    }
+
+    private void writeBuffer() throws IOException {
+        if (pendingRecords == 0) return;
+        buffer.flip();
+        int bytes = buffer.remaining();
+        while (buffer.hasRemaining()) position += channel.write(buffer, position);
+        buffer.clear();
+        tracker.recordLogWrite(pendingRecords, bytes);
+        pendingRecords = 0;
+        unsynced = true;
+    }
+
+    // writes pending records and fsyncs them
+    public synchronized void sync() throws IOException {
+        rethrowFlushFailure();
+        writeBuffer();
+        if (!unsynced) return;
+        if (tracker.isLatencyEnabled()) {
+            long start = System.nanoTime();
+            channel.force(false);
+            tracker.recordLatency(Operation.FSYNC, System.nanoTime() - start);
+        } else {
+            channel.force(false);
+        }
+        unsynced = false;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            rethrowFlushFailure();
+            if (mode == DurabilityMode.NONE) {
+                writeBuffer();
+            } else {
+                sync();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    public synchronized long length() { return position + buffer.position(); }
+    public DurabilityMode getMode() { return mode; }
+}
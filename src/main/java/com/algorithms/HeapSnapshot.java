@@ -0,0 +1,127 @@
+package com.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import com.metrics.Tracker;
+
+// Binary snapshot of a MinHeap: a 32-byte header followed by the heap array in heap order, little-endian.
+//   0  int  magic "MHSN"     4  int  version     8  int  arity     12 int  reserved
+//   16 long element count    24 long CRC32C of the element bytes
+// The array is already heap-ordered, so loading is one bulk read into the backing int[] with no heapify.
+// Checksum and heap-order validation are opt-in because they add a second pass over the data.
+public final class HeapSnapshot {
+    private static final int MAGIC = 0x4d48534e;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int CHUNK_BYTES = 8 << 20;
+
+    private HeapSnapshot() {}
+
+    public static void write(MinHeap heap, Path file) throws IOException {
+        int[] slots = heap.slots();
+        int base = heap.base();
+        int size = heap.size();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer ints = buffer.asIntBuffer();
+        CRC32C crc = new CRC32C();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = HEADER_BYTES;
+            for (int off = 0; off < size; ) {
+                int len = Math.min(size - off, CHUNK_BYTES / Integer.BYTES);
+                ints.clear();
+                ints.put(slots, base + off, len);
+                buffer.clear().limit(len * Integer.BYTES);
+                crc.update(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) position += channel.write(buffer, position);
+                off += len;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(heap.getArity()).putInt(0);
+            header.putLong(size).putLong(crc.getValue()).flip();
+            while (header.hasRemaining()) channel.write(header, header.position());
+            channel.force(true);
+        }
+    }
+
+    // the stored CRC32C, which identifies the snapshot's contents without reading them
+    public static long checksumOf(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            if (header.getInt(0) != MAGIC) throw new IOException("Not a heap snapshot: " + file);
+            return header.getLong(24);
+        }
+    }
+
+    public static MinHeap read(Path file, Tracker tracker) throws IOException {
+        return read(file, tracker, false);
+    }
+
+    // validate: verify the checksum and the heap property before handing the heap out
+    public static MinHeap read(Path file, Tracker tracker, boolean validate) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) throw new IOException("Not a heap snapshot: " + file);
+            int version = header.getInt();
+            if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+            int arity = header.getInt();
+            header.getInt();
+            long count = header.getLong();
+            long checksum = header.getLong();
+            if (arity < 2 || count < 0 || count > GrowthPolicy.MAX_CAPACITY - arity) {
+                throw new IOException("Corrupt snapshot header: arity=" + arity + ", size=" + count);
+            }
+            int size = (int) count;
+            if (channel.size() < HEADER_BYTES + (long) size * Integer.BYTES) {
+                throw new IOException("Snapshot truncated: expected " + size + " elements");
+            }
+
+            int base = arity - 1;
+            int[] slots = new int[base + size];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C crc = validate ? new CRC32C() : null;
+            long position = HEADER_BYTES;
+            for (int off = 0; off < size; ) {
+                int len = Math.min(size - off, CHUNK_BYTES / Integer.BYTES);
+                buffer.clear().limit(len * Integer.BYTES);
+                readFully(channel, buffer, position);
+                buffer.flip();
+                if (crc != null) {
+                    crc.update(buffer);
+                    buffer.flip();
+                }
+                buffer.asIntBuffer().get(slots, base + off, len);
+                position += (long) len * Integer.BYTES;
+                off += len;
+            }
+
+            MinHeap heap = MinHeap.adoptOrdered(slots, size, arity, tracker);
+            if (validate) {
+                if (crc.getValue() != checksum) throw new IOException("Snapshot checksum mismatch: " + file);
+                if (!heap.isHeapOrdered()) throw new IOException("Snapshot is not heap-ordered: " + file);
+            }
+            return heap;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) throw new IOException("Unexpected end of snapshot");
+            position += n;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.algorithms;
+
+import java.util.Objects;
+
+import com.metrics.NoOpTracker;
+import com.metrics.Tracker;
+
+// In-place heapsort and partial sort over primitive arrays; nothing is allocated.
+// Sift-downs are Wegener's bottom-up variant: follow the larger child all the way to a leaf (one comparison
+// per level), then climb back to where the sifted value belongs. The value being sifted is usually a former
+// leaf, so the climb is short and the total is about n log2 n comparisons instead of 2n log2 n.
+public final class HeapSort {
+
+    private HeapSort() {}
+
+    public static void sort(int[] a) {
+        sort(a, 0, a.length, NoOpTracker.INSTANCE);
+    }
+
+    public static void sort(int[] a, Tracker tracker) {
+        sort(a, 0, a.length, tracker);
+    }
+
+    // sorts a[from, to) ascending with a max-heap rooted at a[from]
+    public static void sort(int[] a, int from, int to, Tracker tracker) {
+        Objects.checkFromToIndex(from, to, a.length);
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(a, from, i, n, a[from + i], tracker);
+        for (int end = n - 1; end > 0; end--) {
+            int last = a[from + end];
+            a[from + end] = a[from];
+            tracker.incrementArrayAccesses(3);
+            tracker.incrementExtract();
+            siftDown(a, from, 0, end, last, tracker);
+        }
+    }
+
+    // Rearranges a so that a[0, k) holds its k smallest values in ascending order; the rest is left unordered.
+    public static void nsmallest(int[] a, int k) {
+        nsmallest(a, k, NoOpTracker.INSTANCE);
+    }
+
+    public static void nsmallest(int[] a, int k, Tracker tracker) {
+        if (k < 0 || k > a.length) throw new IllegalArgumentException("k must be in [0, " + a.length + "]");
+        if (k == 0) return;
+        for (int i = k / 2 - 1; i >= 0; i--) siftDown(a, 0, i, k, a[i], tracker);
+        for (int i = k; i < a.length; i++) {
+            int v = a[i];
+            tracker.incrementArrayAccesses(2);
+            tracker.incrementComparisons();
+            if (v >= a[0]) continue;
+            a[i] = a[0];
+            tracker.incrementArrayAccesses(2);
+            siftDown(a, 0, 0, k, v, tracker);
+        }
+        sort(a, 0, k, tracker);
+    }
+
+    // places value into the max-heap a[off, off + n) at relative slot i, whose subtrees are heaps
+    private static void siftDown(int[] a, int off, int i, int n, int value, Tracker tracker) {
+        int j = i;
+        while (true) {
+            int c = 2 * j + 1;
+            if (c >= n) break;
+            if (c + 1 < n) {
+                tracker.incrementArrayAccesses(2);
+                tracker.incrementComparisons();
+                if (a[off + c + 1] > a[off + c]) c++;
+            }
+            j = c;
+        }
+        while (j > i) {
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (a[off + j] >= value) break;
+            j = (j - 1) / 2;
+        }
+        // everything on the path from i down to j moves up one level and value takes j
+        int carry = a[off + j];
+        a[off + j] = value;
+        tracker.incrementArrayAccesses(2);
+        while (j > i) {
+            j = (j - 1) / 2;
+            int t = a[off + j];
+            a[off + j] = carry;
+            carry = t;
+            tracker.incrementArrayAccesses(2);
+            tracker.incrementSwap();
+        }
+    }
+
+    public static void sort(long[] a) {
+        sort(a, 0, a.length, NoOpTracker.INSTANCE);
+    }
+
+    public static void sort(long[] a, Tracker tracker) {
+        sort(a, 0, a.length, tracker);
+    }
+
+    public static void sort(long[] a, int from, int to, Tracker tracker) {
+        Objects.checkFromToIndex(from, to, a.length);
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(a, from, i, n, a[from + i], tracker);
+        for (int end = n - 1; end > 0; end--) {
+            long last = a[from + end];
+            a[from + end] = a[from];
+            tracker.incrementArrayAccesses(3);
+            tracker.incrementExtract();
+            siftDown(a, from, 0, end, last, tracker);
+        }
+    }
+
+    public static void nsmallest(long[] a, int k) {
+        nsmallest(a, k, NoOpTracker.INSTANCE);
+    }
+
+    public static void nsmallest(long[] a, int k, Tracker tracker) {
+        if (k < 0 || k > a.length) throw new IllegalArgumentException("k must be in [0, " + a.length + "]");
+        if (k == 0) return;
+        for (int i = k / 2 - 1; i >= 0; i--) siftDown(a, 0, i, k, a[i], tracker);
+        for (int i = k; i < a.length; i++) {
+            long v = a[i];
+            tracker.incrementArrayAccesses(2);
+            tracker.incrementComparisons();
+            if (v >= a[0]) continue;
+            a[i] = a[0];
+            tracker.incrementArrayAccesses(2);
+            siftDown(a, 0, 0, k, v, tracker);
+        }
+        sort(a, 0, k, tracker);
+    }
+
+    private static void siftDown(long[] a, int off, int i, int n, long value, Tracker tracker) {
+        int j = i;
+        while (true) {
+            int c = 2 * j + 1;
+            if (c >= n) break;
+            if (c + 1 < n) {
+                tracker.incrementArrayAccesses(2);
+                tracker.incrementComparisons();
+                if (a[off + c + 1] > a[off + c]) c++;
+            }
+            j = c;
+        }
+        while (j > i) {
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (a[off + j] >= value) break;
+            j = (j - 1) / 2;
+        }
+        long carry = a[off + j];
+        a[off + j] = value;
+        tracker.incrementArrayAccesses(2);
+        while (j > i) {
+            j = (j - 1) / 2;
+            long t = a[off + j];
+            a[off + j] = carry;
+            carry = t;
+            tracker.incrementArrayAccesses(2);
+            tracker.incrementSwap();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.metrics.Tracker;
+
+// Priority queue over ids 0..capacity-1. pos[id] follows every move so ids can be updated or removed in O(log n).
+public class IndexedMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] pos;
+    private final int[] keys;
+    private int size;
+    private final Tracker tracker;
+
+    public IndexedMinHeap(int capacity, Tracker tracker) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.keys = new int[capacity];
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        Arrays.fill(pos, ABSENT);
+    }
+
+    private int parent(int i) { return (i - 1) / 2; }
+    private int left(int i) { return 2 * i + 1; }
+
+    public void insert(int id, int key) {
+        checkId(id);
+        if (pos[id] != ABSENT) throw new IllegalArgumentException("Id already present: " + id);
+        keys[id] = key;
+        tracker.incrementArrayAccesses(1);
+        tracker.incrementInsert();
+        siftUp(size++, id);
+    }
+
+    public int peekId() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        return heap[0];
+    }
+
+    public int peekKey() {
+        return keys[peekId()];
+    }
+
+    public int extractMinId() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        int min = heap[0];
+        int last = heap[--size];
+        tracker.incrementArrayAccesses(2);
+        pos[min] = ABSENT;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        tracker.incrementExtract();
+        return min;
+    }
+
+    public void decreaseKey(int id, int newKey) {
+        int i = indexOf(id);
+        if (newKey > keys[id]) throw new IllegalArgumentException("New key is greater than current key");
+        keys[id] = newKey;
+        tracker.incrementArrayAccesses(2);
+        siftUp(i, id);
+    }
+
+    public void increaseKey(int id, int newKey) {
+        int i = indexOf(id);
+        if (newKey < keys[id]) throw new IllegalArgumentException("New key is smaller than current key");
+        keys[id] = newKey;
+        tracker.incrementArrayAccesses(2);
+        siftDown(i, id);
+    }
+
+    public void remove(int id) {
+        int i = indexOf(id);
+        pos[id] = ABSENT;
+        int last = heap[--size];
+        tracker.incrementArrayAccesses(1);
+        if (i == size) return;
+        // the moved-in element may need to go either way
+        tracker.incrementComparisons();
+        if (i > 0 && keys[last] < keys[heap[parent(i)]]) {
+            siftUp(i, last);
+        } else {
+            siftDown(i, last);
+        }
+    }
+
+    public boolean contains(int id) {
+        checkId(id);
+        return pos[id] != ABSENT;
+    }
+
+    public int keyOf(int id) {
+        indexOf(id);
+        return keys[id];
+    }
+
+    private int indexOf(int id) {
+        checkId(id);
+        int i = pos[id];
+        tracker.incrementArrayAccesses(1);
+        if (i == ABSENT) throw new IllegalArgumentException("Id not present: " + id);
+        return i;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= pos.length) throw new IllegalArgumentException("Invalid id: " + id);
+    }
+
+    private void siftUp(int i, int id) {
+        int key = keys[id];
+        while (i > 0) {
+            int p = parent(i);
+            int pid = heap[p];
+            tracker.incrementArrayAccesses(2);
+            tracker.incrementComparisons();
+            if (keys[pid] <= key) break;
+            place(i, pid);
+            tracker.incrementSwap();
+            i = p;
+        }
+        place(i, id);
+    }
+
+    private void siftDown(int i, int id) {
+        int key = keys[id];
+        int n = size;
+        while (true) {
+            int l = left(i);
+            if (l >= n) break;
+            int smallest = l;
+            int sk = keys[heap[l]];
+            tracker.incrementArrayAccesses(2);
+            int r = l + 1;
+            if (r < n) {
+                int rk = keys[heap[r]];
+                tracker.incrementArrayAccesses(2);
+                tracker.incrementComparisons();
+                if (rk < sk) {
+                    smallest = r;
+                    sk = rk;
+                }
+            }
+            tracker.incrementComparisons();
+            if (sk >= key) break;
+            place(i, heap[smallest]);
+            tracker.incrementSwap();
+            i = smallest;
+        }
+        place(i, id);
+    }
+
+    private void place(int i, int id) {
+        heap[i] = id;
+        pos[id] = i;
+        tracker.incrementArrayAccesses(2);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = ABSENT;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return pos.length; }
+    public Tracker getTracker() { return tracker; }
+}
@@ -0,0 +1,78 @@
+package com.algorithms;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.metrics.Tracker;
+
+// Baseline: one lock around a plain MinHeap.
+public class LockedMinHeap implements BlockingMinHeap {
+    private final MinHeap heap;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    public LockedMinHeap(Tracker tracker) {
+        this.heap = new MinHeap(tracker);
+    }
+
+    @Override
+    public void insert(int value) {
+        lock.lock();
+        try {
+            heap.insert(value);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (heap.isEmpty()) notEmpty.await();
+            return heap.extractMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.isEmpty()) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return heap.extractMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Integer tryExtractMin() {
+        lock.lock();
+        try {
+            return heap.isEmpty() ? null : heap.extractMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Tracker getTracker() { return heap.getTracker(); }
+}
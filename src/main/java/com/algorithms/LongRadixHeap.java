@@ -0,0 +1,131 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.metrics.Operation;
+import com.metrics.Tracker;
+
+// RadixHeap for long keys (timestamps, packed distance/vertex pairs); 65 buckets, same monotone contract.
+public class LongRadixHeap {
+    private static final int BUCKETS = Long.SIZE + 1;
+    private static final int DEFAULT_BUCKET_CAPACITY = 8;
+
+    private final long[][] buckets = new long[BUCKETS][];
+    private final int[] counts = new int[BUCKETS];
+    private final long initialFloor;
+    private long last;
+    private int size;
+    private final Tracker tracker;
+
+    public LongRadixHeap(Tracker tracker) {
+        this(tracker, Long.MIN_VALUE);
+    }
+
+    public LongRadixHeap(Tracker tracker, long floor) {
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.initialFloor = floor;
+        this.last = floor;
+        for (int b = 0; b < BUCKETS; b++) buckets[b] = new long[DEFAULT_BUCKET_CAPACITY];
+    }
+
+    private static int bucketOf(long key, long last) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    public void insert(long key) {
+        if (!tracker.isLatencyEnabled()) {
+            doInsert(key);
+            return;
+        }
+        long start = System.nanoTime();
+        doInsert(key);
+        tracker.recordLatency(Operation.INSERT, System.nanoTime() - start);
+    }
+
+    private void doInsert(long key) {
+        if (key < last) throw new IllegalArgumentException("Key " + key + " is below the last extracted key " + last);
+        push(bucketOf(key, last), key);
+        size++;
+        tracker.incrementInsert();
+    }
+
+    private void push(int b, long key) {
+        long[] bucket = buckets[b];
+        int n = counts[b];
+        if (n == bucket.length) {
+            bucket = buckets[b] = Arrays.copyOf(bucket, GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, n, n + 1));
+        }
+        bucket[n] = key;
+        counts[b] = n + 1;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    public long peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        if (counts[0] > 0) return last;
+        return minOf(lowestNonEmpty());
+    }
+
+    public long extractMin() {
+        if (!tracker.isLatencyEnabled()) return doExtractMin();
+        long start = System.nanoTime();
+        long min = doExtractMin();
+        tracker.recordLatency(Operation.EXTRACT_MIN, System.nanoTime() - start);
+        return min;
+    }
+
+    private long doExtractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        if (counts[0] == 0) redistribute(lowestNonEmpty());
+        counts[0]--;
+        size--;
+        tracker.incrementArrayAccesses(1);
+        tracker.incrementExtract();
+        return last;
+    }
+
+    private int lowestNonEmpty() {
+        int b = 1;
+        while (counts[b] == 0) b++;
+        return b;
+    }
+
+    private long minOf(int b) {
+        long[] bucket = buckets[b];
+        int n = counts[b];
+        long min = bucket[0];
+        for (int i = 1; i < n; i++) {
+            tracker.incrementComparisons();
+            if (bucket[i] < min) min = bucket[i];
+        }
+        tracker.incrementArrayAccesses(n);
+        return min;
+    }
+
+    private void redistribute(int b) {
+        long min = minOf(b);
+        last = min;
+        long[] bucket = buckets[b];
+        int n = counts[b];
+        counts[b] = 0;
+        for (int i = 0; i < n; i++) {
+            long key = bucket[i];
+            push(bucketOf(key, min), key);
+            tracker.incrementSwap();
+        }
+        tracker.incrementArrayAccesses(n);
+    }
+
+    public long floor() { return last; }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        last = initialFloor;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public Tracker getTracker() { return tracker; }
+}
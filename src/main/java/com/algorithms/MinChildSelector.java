@@ -0,0 +1,8 @@
+package com.algorithms;
+
+// Picks the smallest child for MinHeap's SiftMode.VECTOR. The implementation, VectorMinChild, lives in
+// src/vector/java and is only compiled with -Pvector, so the default build never touches the incubator module.
+interface MinChildSelector {
+    // index of the smallest of h[c, end); ties go to the lowest index like the scalar loop
+    int minChild(int[] h, int c, int end);
+}
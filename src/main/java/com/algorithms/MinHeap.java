@@ -1,104 +1,545 @@
 package com.algorithms;
 
-import java.util.ArrayList;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import com.metrics.Operation;
 import com.metrics.PerformanceTracker;
+import com.metrics.Tracker;
+import com.metrics.TrackingMode;
 
 public class MinHeap {
-    private final List<Integer> heap;
-    private final PerformanceTracker tracker;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_ARITY = 2;
+    private static final int PARALLEL_BUILD_THRESHOLD = 1 << 20;
+    private static final int PARALLEL_BUILD_GRAIN = 1 << 15;
+    private static final Method VECTOR_FOR_ARITY = findVectorFactory();
 
-    public MinHeap(PerformanceTracker tracker) {
-        this.heap = new ArrayList<>();
-        this.tracker = tracker;
+    // Slots are physical indices. The root sits at `base` = arity - 1, which puts the children of every
+    // node in a contiguous group starting at a multiple of arity. The JVM does not align int[] data to cache
+    // lines, so for arity <= 16 a group of at most 64 bytes spans one or two 64-byte lines.
+    private int[] heap;
+    private int size;
+    private final int arity;
+    private final int base;
+    private final GrowthPolicy growth;
+    private final Tracker tracker;
+    private final SiftMode sift;
+    private final MinChildSelector vector;
+
+    public MinHeap(Tracker tracker) {
+        this(tracker, DEFAULT_ARITY);
+    }
+
+    public MinHeap(TrackingMode mode) {
+        this(mode.create());
+    }
+
+    public MinHeap(Tracker tracker, int arity) {
+        this(tracker, arity, DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public MinHeap(Tracker tracker, int initialCapacity, GrowthPolicy growth) {
+        this(tracker, DEFAULT_ARITY, initialCapacity, growth);
+    }
+
+    public MinHeap(Tracker tracker, int arity, int initialCapacity, GrowthPolicy growth) {
+        this(tracker, arity, initialCapacity, growth, SiftMode.BRANCHY);
+    }
+
+    public MinHeap(Tracker tracker, int arity, int initialCapacity, GrowthPolicy growth, SiftMode sift) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2");
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+        this.arity = arity;
+        this.base = arity - 1;
+        this.heap = new int[base + initialCapacity];
+        this.growth = Objects.requireNonNull(growth, "growth");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.vector = sift == SiftMode.VECTOR ? vectorSelector(arity) : null;
+        this.sift = sift == SiftMode.VECTOR && vector == null ? SiftMode.BRANCHLESS : Objects.requireNonNull(sift, "sift");
+    }
+
+    // VectorMinChild.forArity, or null when the class was not built (-Pvector) or the module is not loaded
+    private static Method findVectorFactory() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            return Class.forName("com.algorithms.VectorMinChild").getDeclaredMethod("forArity", int.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static MinChildSelector vectorSelector(int arity) {
+        if (VECTOR_FOR_ARITY == null) return null;
+        try {
+            return (MinChildSelector) VECTOR_FOR_ARITY.invoke(null, arity);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    // takes over slots that are already heap-ordered for this arity (root at slot arity - 1) without heapifying
+    static MinHeap adoptOrdered(int[] slots, int size, int arity, Tracker tracker) {
+        MinHeap h = new MinHeap(tracker, arity, 0, GrowthPolicy.DOUBLING);
+        if (size < 0 || slots.length < h.base + size) throw new IllegalArgumentException("Slots too small for size " + size);
+        h.heap = slots;
+        h.size = size;
+        return h;
+    }
+
+    public static MinHeap fromArray(int[] values) {
+        return fromArray(values, new PerformanceTracker());
+    }
+
+    public static MinHeap fromArray(int[] values, Tracker tracker) {
+        return fromArray(values, tracker, DEFAULT_ARITY);
+    }
+
+    public static MinHeap fromArray(int[] values, Tracker tracker, int arity) {
+        MinHeap h = new MinHeap(tracker, arity, values.length, GrowthPolicy.DOUBLING);
+        h.addAll(values);
+        return h;
+    }
+
+    public static MinHeap fromArrayParallel(int[] values, Tracker tracker, int arity) {
+        return fromArrayParallel(values, tracker, arity, ForkJoinPool.commonPool());
     }
 
-    private int parent(int i) { return (i - 1) / 2; }
-    private int left(int i) { return 2 * i + 1; }
-    private int right(int i) { return 2 * i + 2; }
+    // Floyd's build with the subtrees below the top levels heapified in parallel and each top node sifted
+    // once its children are done. Inputs under PARALLEL_BUILD_THRESHOLD, or a pool of one, build on the
+    // calling thread. The tracker is updated from pool threads, so it has to be thread-safe.
+    public static MinHeap fromArrayParallel(int[] values, Tracker tracker, int arity, ForkJoinPool pool) {
+        if (values.length < PARALLEL_BUILD_THRESHOLD || pool.getParallelism() < 2) return fromArray(values, tracker, arity);
+        MinHeap h = new MinHeap(tracker, arity, values.length, GrowthPolicy.DOUBLING);
+        System.arraycopy(values, 0, h.heap, h.base, values.length);
+        tracker.incrementArrayAccesses(2L * values.length);
+        h.countInserts(values.length);
+        h.size = values.length;
+        pool.invoke(h.new SubtreeBuild(h.base));
+        return h;
+    }
+
+    private int parent(int i) { return (i - base - 1) / arity + base; }
+    // In long and clamped: for a deep enough node the product passes Integer.MAX_VALUE, while every real
+    // slot is below MAX_CAPACITY, so a clamped index still fails the callers' `c >= end` check.
+    private int firstChild(int i) { return (int) Math.min((long) arity * (i - base) + base + 1, Integer.MAX_VALUE); }
 
     public void insert(int value) {
-        heap.add(value);
-        tracker.incrementArrayAccesses(1); 
+        if (!tracker.isLatencyEnabled()) {
+            doInsert(value);
+            return;
+        }
+        long start = System.nanoTime();
+        doInsert(value);
+        tracker.recordLatency(Operation.INSERT, System.nanoTime() - start);
+    }
+
+    private void doInsert(int value) {
+        ensureCapacity(size + 1);
         tracker.incrementInsert();
-        heapifyUp(heap.size() - 1);
+        siftUp(base + size++, value);
+    }
+
+    public int peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        return heap[base];
+    }
+
+    // key in slot index, 0 being the root; the slot a decreaseKey(index, ...) would change
+    public int keyAt(int index) {
+        Objects.checkIndex(index, size);
+        return heap[base + index];
     }
 
     public int extractMin() {
-        if (heap.isEmpty()) throw new IllegalStateException("Heap is empty");
-        int min = heap.get(0);
-        tracker.incrementArrayAccesses(1);
-        int last = heap.remove(heap.size() - 1);
-        tracker.incrementArrayAccesses(1);
-        if (!heap.isEmpty()) {
-            heap.set(0, last);
-            tracker.incrementArrayAccesses(1);
-            heapifyDown(0);
+        if (!tracker.isLatencyEnabled()) return doExtractMin();
+        long start = System.nanoTime();
+        int min = doExtractMin();
+        tracker.recordLatency(Operation.EXTRACT_MIN, System.nanoTime() - start);
+        return min;
+    }
+
+    private int doExtractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        int min = heap[base];
+        int last = heap[base + --size];
+        tracker.incrementArrayAccesses(2);
+        if (size > 0) {
+            siftDown(base, last);
         }
         tracker.incrementExtract();
         return min;
     }
 
+    // extractMin followed by insert(value) with a single sift-down; the heap never grows
+    public int replaceMin(int value) {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        int min = heap[base];
+        tracker.incrementArrayAccesses(1);
+        siftDown(base, value);
+        tracker.incrementExtract();
+        tracker.incrementInsert();
+        return min;
+    }
+
+    // Moves up to k of the smallest elements into dest[0, k) in ascending order and returns how many were
+    // moved, validating once and running one root sift-down per element.
+    public int extractMin(int k, int[] dest) {
+        if (k < 0) throw new IllegalArgumentException("k must be non-negative");
+        if (dest.length < k) throw new IllegalArgumentException("Destination holds fewer than " + k + " elements");
+        int count = Math.min(k, size);
+        if (count == 0) return 0;
+        int[] h = heap;
+        for (int i = 0; i < count; i++) {
+            dest[i] = h[base];
+            int last = h[base + --size];
+            tracker.incrementArrayAccesses(3);
+            siftDown(base, last);
+        }
+        for (int i = 0; i < count; i++) tracker.incrementExtract();
+        return count;
+    }
+
     public void decreaseKey(int index, int newVal) {
-        if (index < 0 || index >= heap.size()) throw new IllegalArgumentException("Invalid index");
-        int current = heap.get(index);
+        if (!tracker.isLatencyEnabled()) {
+            doDecreaseKey(index, newVal);
+            return;
+        }
+        long start = System.nanoTime();
+        doDecreaseKey(index, newVal);
+        tracker.recordLatency(Operation.DECREASE_KEY, System.nanoTime() - start);
+    }
+
+    private void doDecreaseKey(int index, int newVal) {
+        if (index < 0 || index >= size) throw new IllegalArgumentException("Invalid index");
+        int current = heap[base + index];
         tracker.incrementArrayAccesses(1);
         if (newVal > current) throw new IllegalArgumentException("New value is greater than current value");
-        heap.set(index, newVal);
-        tracker.incrementArrayAccesses(1);
-        heapifyUp(index);
+        siftUp(base + index, newVal);
+    }
+
+    public void addAll(int[] values) {
+        insertAll(values, 0, values.length);
+    }
+
+    // Appends src[off, off + len) and restores heap order by whichever is cheaper: one sift-up per element,
+    // or a rebuild that sifts down only the ancestors of the new slots (Floyd's heapify when the heap was small).
+    public void insertAll(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len == 0) return;
+        ensureCapacity(size + len);
+        if (!shouldRebuildPartially(size, len)) {
+            for (int i = off; i < off + len; i++) doInsert(src[i]);
+            return;
+        }
+        int first = base + size;
+        System.arraycopy(src, off, heap, first, len);
+        tracker.incrementArrayAccesses(2L * len);
+        countInserts(len);
+        size += len;
+        rebuildAncestors(first);
+    }
+
+    private void countInserts(int k) {
+        for (int i = 0; i < k; i++) tracker.incrementInsert();
+    }
+
+    // Floyd's build costs at most ~2(n + k) comparisons; k sift-ups cost up to k * log2(n + k)
+    static boolean shouldRebuild(int n, int k) {
+        long total = (long) n + k;
+        int depth = 63 - Long.numberOfLeadingZeros(total);
+        return 2 * total <= (long) k * depth;
+    }
+
+    // Sifting down the ancestors of the k new slots, level by level, touches about k / (arity - 1) nodes
+    // plus the two root paths, so it costs roughly 2k + depth^2 comparisons against k * depth for sift-ups.
+    static boolean shouldRebuildPartially(int n, int k) {
+        long total = (long) n + k;
+        long depth = 63 - Long.numberOfLeadingZeros(total);
+        return 2L * k + depth * depth <= k * depth;
+    }
+
+    // Only nodes with a new descendant can violate heap order. Their indices form one contiguous range
+    // per step up the tree, walked from the leaves so every child settles first. A range that reaches the
+    // root covers every remaining ancestor, so that pass is the last; from an empty heap it is Floyd's build.
+    private void rebuildAncestors(int first) {
+        int lo = parent(first);
+        int hi = parent(base + size - 1);
+        while (true) {
+            for (int i = hi; i >= lo; i--) {
+                tracker.incrementArrayAccesses(1);
+                siftDown(i, heap[i]);
+            }
+            if (lo == base) return;
+            lo = parent(lo);
+            hi = parent(hi);
+        }
+    }
+
+    private final class SubtreeBuild extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int root;
+
+        SubtreeBuild(int root) { this.root = root; }
+
+        @Override
+        protected void compute() {
+            int end = base + size;
+            int c = firstChild(root);
+            if (c >= end) return;
+            if (subtreeSize(root) <= PARALLEL_BUILD_GRAIN) {
+                heapifySubtree(root);
+                return;
+            }
+            int last = c + Math.min(arity, end - c);
+            SubtreeBuild[] children = new SubtreeBuild[last - c];
+            for (int j = c; j < last; j++) children[j - c] = new SubtreeBuild(j);
+            invokeAll(children);
+            tracker.incrementArrayAccesses(1);
+            siftDown(root, heap[root]);
+        }
+    }
+
+    // The nodes of a subtree form one contiguous index range per level; [lo, hi] walks those ranges.
+    private long subtreeSize(int root) {
+        long end = base + size;
+        long total = 0;
+        for (long lo = root, hi = root; lo < end; lo = arity * (lo - base) + base + 1, hi = arity * (hi - base) + base + arity) {
+            total += Math.min(hi, end - 1) - lo + 1;
+        }
+        return total;
+    }
+
+    // Floyd's build restricted to the subtree at root, one level range at a time from the bottom
+    private void heapifySubtree(int root) {
+        long end = base + size;
+        int[] los = new int[33];
+        int[] his = new int[33];
+        int levels = 0;
+        for (long lo = root, hi = root; lo < end; lo = arity * (lo - base) + base + 1, hi = arity * (hi - base) + base + arity) {
+            hi = Math.min(hi, end - 1);
+            los[levels] = (int) lo;
+            his[levels] = (int) hi;
+            levels++;
+        }
+        for (int d = levels - 2; d >= 0; d--) {
+            for (int i = his[d]; i >= los[d]; i--) {
+                tracker.incrementArrayAccesses(1);
+                siftDown(i, heap[i]);
+            }
+        }
+    }
+
+    private void heapify() {
+        for (int i = parent(base + size - 1); i >= base; i--) {
+            tracker.incrementArrayAccesses(1);
+            siftDown(i, heap[i]);
+        }
     }
 
     public void merge(MinHeap other) {
-        for (Integer v : other.heap) {
-            insert(v);
+        merge(other, false);
+    }
+
+    // destructive: other is left empty and its backing array may be adopted instead of copied
+    public void merge(MinHeap other, boolean destructive) {
+        if (!tracker.isLatencyEnabled()) {
+            doMerge(other, destructive);
+            return;
         }
+        long start = System.nanoTime();
+        doMerge(other, destructive);
+        tracker.recordLatency(Operation.MERGE, System.nanoTime() - start);
     }
 
-    private void heapifyUp(int i) {
-        while (i > 0) {
-            int p = parent(i);
-            tracker.incrementArrayAccesses(2); 
+    private void doMerge(MinHeap other, boolean destructive) {
+        if (other == this) {
+            addAll(Arrays.copyOfRange(heap, base, base + size));
+            return;
+        }
+        int k = other.size;
+        boolean sameLayout = other.arity == arity;
+        if (destructive && sameLayout && size == 0) {
+            heap = other.heap;
+            size = k;
+            countInserts(k);
+            other.release();
+            return;
+        }
+        if (destructive && sameLayout && shouldRebuild(size, k) && other.heap.length >= base + size + k && size <= k) {
+            // cheaper to copy our (smaller) contents behind theirs than the other way round
+            int[] stolen = other.heap;
+            System.arraycopy(heap, base, stolen, base + k, size);
+            tracker.incrementArrayAccesses(2L * size);
+            countInserts(k);
+            heap = stolen;
+            size += k;
+            other.release();
+            heapify();
+            return;
+        }
+        insertAll(other.heap, other.base, k);
+        if (destructive) other.release();
+    }
 
-            tracker.incrementComparisons();
+    private void release() {
+        heap = new int[base];
+        size = 0;
+    }
 
-            if (heap.get(p) <= heap.get(i)) break;
-            swap(i, p);
+    // moves the hole at i towards the root and drops value into it; each level costs one read and one write
+    private void siftUp(int i, int value) {
+        int[] h = heap;
+        while (i > base) {
+            int p = parent(i);
+            int pv = h[p];
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (pv <= value) break;
+            h[i] = pv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
             i = p;
         }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
     }
 
-    private void heapifyDown(int i) {
-        int n = heap.size();
+    private void siftDown(int i, int value) {
+        if (sift != SiftMode.BRANCHY) {
+            siftDownSelect(i, value);
+            return;
+        }
+        int[] h = heap;
+        int end = base + size;
         while (true) {
-            int l = left(i), r = right(i), smallest = i;
-            if (l < n) {
+            int c = firstChild(i);
+            if (c >= end) break;
+            int last = c + Math.min(arity, end - c);
+            int smallest = c;
+            int sv = h[c];
+            tracker.incrementArrayAccesses(1);
+            for (int j = c + 1; j < last; j++) {
+                int v = h[j];
                 tracker.incrementArrayAccesses(1);
                 tracker.incrementComparisons();
-                if (heap.get(l) < heap.get(smallest)) smallest = l;
+                if (v < sv) {
+                    smallest = j;
+                    sv = v;
+                }
             }
-            if (r < n) {
-                tracker.incrementArrayAccesses(1);
-                tracker.incrementComparisons();
-                if (heap.get(r) < heap.get(smallest)) smallest = r;
+            tracker.incrementComparisons();
+            if (sv >= value) break;
+            h[i] = sv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = smallest;
+        }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    // siftDown with the smallest child found by BRANCHLESS or VECTOR selection. The only data-dependent
+    // branch left per level is the exit test, which is taken once per sift.
+    private void siftDownSelect(int i, int value) {
+        int[] h = heap;
+        int end = base + size;
+        while (true) {
+            int c = firstChild(i);
+            if (c >= end) break;
+            int last = c + Math.min(arity, end - c);
+            int smallest;
+            if (vector != null) {
+                smallest = vector.minChild(h, c, last);
+            } else {
+                smallest = c;
+                int sv = h[c];
+                for (int j = c + 1; j < last; j++) {
+                    int v = h[j];
+                    smallest = v < sv ? j : smallest;
+                    sv = Math.min(v, sv);
+                }
             }
-            if (smallest == i) break;
-            swap(i, smallest);
+            int sv = h[smallest];
+            tracker.incrementArrayAccesses(last - c);
+            for (int j = c + 1; j < last; j++) tracker.incrementComparisons();
+            tracker.incrementComparisons();
+            if (sv >= value) break;
+            h[i] = sv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
             i = smallest;
         }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
     }
 
-    private void swap(int i, int j) {
-        int tmp = heap.get(i);
-        int a = heap.get(j);
-        tracker.incrementArrayAccesses(2);
-        heap.set(i, a);
-        heap.set(j, tmp);
-        tracker.incrementArrayAccesses(2);
-        tracker.incrementSwap();
+    public void ensureCapacity(int minCapacity) {
+        long required = (long) base + minCapacity;
+        if (required > heap.length) {
+            // anything past MAX_CAPACITY is clamped to a value nextCapacity rejects
+            int clamped = (int) Math.min(required, Integer.MAX_VALUE);
+            heap = Arrays.copyOf(heap, GrowthPolicy.nextCapacity(growth, heap.length, clamped));
+        }
     }
 
-    public List<Integer> getHeap() { return heap; }
-    public PerformanceTracker getTracker() { return tracker; }
+    public void trimToSize() {
+        if (base + size < heap.length) {
+            heap = Arrays.copyOf(heap, base + size);
+        }
+    }
+
+    public void clear() { size = 0; }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return heap.length - base; }
+    public int getArity() { return arity; }
+    // the mode in effect, after any VECTOR fallback
+    public SiftMode getSiftMode() { return sift; }
+
+    int[] slots() { return heap; }
+    int base() { return base; }
+
+    // How many elements are below value, counting no further than limit. Only those elements and their
+    // children are visited, so the cost is O(result * arity) rather than O(size).
+    int countLessThan(int value, int limit) {
+        return size == 0 || limit <= 0 ? 0 : countLessThan(base, value, limit);
+    }
+
+    private int countLessThan(int i, int value, int limit) {
+        if (heap[i] >= value) return 0;
+        int count = 1;
+        int c = firstChild(i);
+        if (c >= base + size) return count;
+        int end = c + Math.min(arity, base + size - c);
+        for (int j = c; j < end && count < limit; j++) count += countLessThan(j, value, limit - count);
+        return count;
+    }
+
+    boolean isHeapOrdered() {
+        for (int i = base + 1; i < base + size; i++) {
+            if (heap[parent(i)] > heap[i]) return false;
+        }
+        return true;
+    }
+
+    public List<Integer> getHeap() { return new HeapView(); }
+    public Tracker getTracker() { return tracker; }
+
+    private final class HeapView extends AbstractList<Integer> {
+        @Override
+        public Integer get(int index) {
+            Objects.checkIndex(index, size);
+            return heap[base + index];
+        }
+
+        @Override
+        public int size() { return size; }
+    }
 }
@@ -0,0 +1,114 @@
+package com.algorithms;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.metrics.Tracker;
+
+// Rihani, Sanders & Dementiev's MultiQueue: c * P independent heaps behind try-locks. Inserts go to a random
+// shard, extracts pop the smaller top of two random shards. Results are rank-relaxed, not strictly ordered.
+// All shards report to one tracker, which therefore has to be thread-safe.
+public class MultiQueue {
+    private static final long EMPTY = Long.MAX_VALUE;
+    private static final int DEFAULT_RANK_SAMPLE_INTERVAL = 64;
+
+    private final Shard[] shards;
+    private final Tracker tracker;
+    private final int rankSampleInterval;
+
+    public MultiQueue(int shardCount, Tracker tracker) {
+        this(shardCount, tracker, DEFAULT_RANK_SAMPLE_INTERVAL);
+    }
+
+    // about one in rankSampleInterval extracts measures its rank error; 0 disables sampling
+    public MultiQueue(int shardCount, Tracker tracker, int rankSampleInterval) {
+        if (shardCount < 2) throw new IllegalArgumentException("A MultiQueue needs at least 2 shards");
+        if (rankSampleInterval < 0) throw new IllegalArgumentException("Sample interval must be non-negative");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.rankSampleInterval = rankSampleInterval;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) shards[i] = new Shard(tracker);
+    }
+
+    public static MultiQueue forThreads(int threads, int shardsPerThread, Tracker tracker) {
+        return new MultiQueue(Math.max(2, threads * shardsPerThread), tracker);
+    }
+
+    public void insert(int value) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        while (true) {
+            Shard s = shards[rnd.nextInt(shards.length)];
+            if (!s.lock.tryLock()) continue;
+            try {
+                s.heap.insert(value);
+                s.publishTop();
+                return;
+            } finally {
+                s.lock.unlock();
+            }
+        }
+    }
+
+    // null once every shard has been seen empty
+    public Integer tryExtractMin() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int misses = 0;
+        while (true) {
+            Shard a = shards[rnd.nextInt(shards.length)];
+            Shard b = shards[rnd.nextInt(shards.length)];
+            Shard s = b.top < a.top ? b : a;
+            if (s.top == EMPTY) {
+                if (++misses >= shards.length && isEmpty()) return null;
+                continue;
+            }
+            if (!s.lock.tryLock()) continue;
+            int value;
+            try {
+                if (s.heap.isEmpty()) continue;
+                value = s.heap.extractMin();
+                s.publishTop();
+            } finally {
+                s.lock.unlock();
+            }
+            if (rankSampleInterval > 0 && rnd.nextInt(rankSampleInterval) == 0) {
+                tracker.recordRankError(rankError(value));
+            }
+            return value;
+        }
+    }
+
+    // lower bound on the true rank error: how many other shards currently expose a smaller top
+    private long rankError(int value) {
+        long error = 0;
+        for (Shard s : shards) {
+            if (s.top < value) error++;
+        }
+        return error;
+    }
+
+    public boolean isEmpty() {
+        for (Shard s : shards) {
+            if (s.top != EMPTY) return false;
+        }
+        return true;
+    }
+
+    public int shardCount() { return shards.length; }
+    public Tracker getTracker() { return tracker; }
+
+    private static final class Shard {
+        final ReentrantLock lock = new ReentrantLock();
+        final MinHeap heap;
+        // readable without the lock so extracts can compare shards before locking one
+        volatile long top = EMPTY;
+
+        Shard(Tracker tracker) {
+            this.heap = new MinHeap(tracker);
+        }
+
+        void publishTop() {
+            top = heap.isEmpty() ? EMPTY : heap.peek();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.metrics.Tracker;
+
+public class ObjectMinHeap<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] heap;
+    private int size;
+    private final Comparator<? super T> comparator;
+    private final Tracker tracker;
+
+    public ObjectMinHeap(Comparator<? super T> comparator, Tracker tracker) {
+        this(comparator, tracker, DEFAULT_CAPACITY);
+    }
+
+    public ObjectMinHeap(Comparator<? super T> comparator, Tracker tracker, int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+        this.heap = new Object[initialCapacity];
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+    }
+
+    private int parent(int i) { return (i - 1) / 2; }
+    private int left(int i) { return 2 * i + 1; }
+
+    @SuppressWarnings("unchecked")
+    private T at(int i) { return (T) heap[i]; }
+
+    public void insert(T value) {
+        Objects.requireNonNull(value, "value");
+        ensureCapacity(size + 1);
+        tracker.incrementInsert();
+        siftUp(size++, value);
+    }
+
+    public T peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        return at(0);
+    }
+
+    public T extractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        T min = at(0);
+        T last = at(--size);
+        heap[size] = null;
+        tracker.incrementArrayAccesses(3);
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        tracker.incrementExtract();
+        return min;
+    }
+
+    public void decreaseKey(int index, T newVal) {
+        if (index < 0 || index >= size) throw new IllegalArgumentException("Invalid index");
+        Objects.requireNonNull(newVal, "newVal");
+        T current = at(index);
+        tracker.incrementArrayAccesses(1);
+        if (comparator.compare(newVal, current) > 0) throw new IllegalArgumentException("New value is greater than current value");
+        siftUp(index, newVal);
+    }
+
+    public void addAll(T[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    private void addAll(Object[] values, int off, int k) {
+        for (int i = off; i < off + k; i++) Objects.requireNonNull(values[i], "value");
+        if (k == 0) return;
+        ensureCapacity(size + k);
+        if (!MinHeap.shouldRebuild(size, k)) {
+            for (int i = off; i < off + k; i++) {
+                @SuppressWarnings("unchecked")
+                T v = (T) values[i];
+                insert(v);
+            }
+            return;
+        }
+        System.arraycopy(values, off, heap, size, k);
+        tracker.incrementArrayAccesses(2L * k);
+        for (int i = 0; i < k; i++) tracker.incrementInsert();
+        size += k;
+        for (int i = parent(size - 1); i >= 0; i--) {
+            tracker.incrementArrayAccesses(1);
+            siftDown(i, at(i));
+        }
+    }
+
+    public void merge(ObjectMinHeap<? extends T> other) {
+        Object[] values = other == this ? Arrays.copyOf(heap, size) : other.heap;
+        addAll(values, 0, other.size);
+    }
+
+    // drops every element matching filter and re-heapifies what is left; returns how many were dropped
+    public int removeIf(Predicate<? super T> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T v = at(i);
+            if (!filter.test(v)) heap[kept++] = v;
+        }
+        tracker.incrementArrayAccesses((long) size + kept);
+        int removed = size - kept;
+        if (removed == 0) return 0;
+        Arrays.fill(heap, kept, size, null);
+        size = kept;
+        for (int i = parent(size - 1); i >= 0; i--) {
+            tracker.incrementArrayAccesses(1);
+            siftDown(i, at(i));
+        }
+        return removed;
+    }
+
+    private void siftUp(int i, T value) {
+        Object[] h = heap;
+        while (i > 0) {
+            int p = parent(i);
+            T pv = at(p);
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (comparator.compare(pv, value) <= 0) break;
+            h[i] = pv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = p;
+        }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    private void siftDown(int i, T value) {
+        Object[] h = heap;
+        int n = size;
+        while (true) {
+            int l = left(i);
+            if (l >= n) break;
+            int smallest = l;
+            T sv = at(l);
+            tracker.incrementArrayAccesses(1);
+            int r = l + 1;
+            if (r < n) {
+                T rv = at(r);
+                tracker.incrementArrayAccesses(1);
+                tracker.incrementComparisons();
+                if (comparator.compare(rv, sv) < 0) {
+                    smallest = r;
+                    sv = rv;
+                }
+            }
+            tracker.incrementComparisons();
+            if (comparator.compare(sv, value) >= 0) break;
+            h[i] = sv;
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = smallest;
+        }
+        h[i] = value;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            heap = Arrays.copyOf(heap, GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, heap.length, minCapacity));
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public Comparator<? super T> comparator() { return comparator; }
+    public Tracker getTracker() { return tracker; }
+}
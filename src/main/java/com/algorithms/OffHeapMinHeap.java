@@ -0,0 +1,222 @@
+package com.algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.metrics.Tracker;
+
+// Binary min-heap whose slots live in a memory-mapped file instead of the Java heap, so the GC never scans
+// or copies them. The file is mapped in fixed-size segments (1 GiB by default, a single MappedByteBuffer
+// cannot exceed 2 GiB) and grows by mapping one more segment past the current end. A small header keeps
+// the element count so open() can reattach to an existing file; force() flushes everything to disk.
+// Mappings are released by the GC after close(), as Java 17 has no explicit unmap.
+// This backend is binary-only with its own long-indexed sift loops: MinHeap's arity, SiftMode and
+// GrowthPolicy options are specialized for an int[] indexed by int and do not carry over; capacity grows one
+// segment at a time instead.
+public class OffHeapMinHeap implements Closeable {
+    private static final int MAGIC = 0x4d484f46;
+    private static final int VERSION = 1;
+    // header: magic, version, segment shift, padding, element count (long at offset 16)
+    private static final int HEADER_BYTES = 64;
+    private static final int DEFAULT_SEGMENT_SHIFT = 28;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int segmentShift;
+    private final long segmentMask;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long size;
+    private final Tracker tracker;
+
+    private OffHeapMinHeap(FileChannel channel, int segmentShift, Tracker tracker) throws IOException {
+        if (segmentShift < 10 || segmentShift > 28) throw new IllegalArgumentException("Segment shift must be in [10, 28]");
+        this.channel = channel;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.nativeOrder());
+    }
+
+    public static OffHeapMinHeap create(Path file, Tracker tracker) throws IOException {
+        return create(file, tracker, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    // segmentShift: log2 of the ints per mapped segment
+    public static OffHeapMinHeap create(Path file, Tracker tracker, int segmentShift) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            OffHeapMinHeap heap = new OffHeapMinHeap(channel, segmentShift, tracker);
+            heap.header.putInt(0, MAGIC);
+            heap.header.putInt(4, VERSION);
+            heap.header.putInt(8, segmentShift);
+            heap.writeSize();
+            return heap;
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(channel, e);
+            throw e;
+        }
+    }
+
+    public static OffHeapMinHeap open(Path file, Tracker tracker) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer probe = ByteBuffer.allocate(24).order(ByteOrder.nativeOrder());
+            channel.read(probe, 0);
+            if (probe.position() < probe.capacity() || probe.getInt(0) != MAGIC || probe.getInt(4) != VERSION) {
+                throw new IOException("Not an off-heap MinHeap file: " + file);
+            }
+            OffHeapMinHeap heap = new OffHeapMinHeap(channel, probe.getInt(8), tracker);
+            long stored = probe.getLong(16);
+            if (stored < 0) throw new IOException("Corrupt element count " + stored + " in " + file);
+            heap.ensureCapacity(stored);
+            heap.size = stored;
+            return heap;
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(channel, e);
+            throw e;
+        }
+    }
+
+    private static void closeAfterFailure(FileChannel channel, Exception cause) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private long parent(long i) { return (i - 1) >>> 1; }
+    private long left(long i) { return 2 * i + 1; }
+
+    private int get(long i) {
+        return segments[(int) (i >>> segmentShift)].getInt((int) (i & segmentMask) << 2);
+    }
+
+    private void set(long i, int value) {
+        segments[(int) (i >>> segmentShift)].putInt((int) (i & segmentMask) << 2, value);
+    }
+
+    public void insert(int value) throws IOException {
+        ensureCapacity(size + 1);
+        tracker.incrementInsert();
+        siftUp(size++, value);
+    }
+
+    public int peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        return get(0);
+    }
+
+    public int extractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        int min = get(0);
+        int last = get(--size);
+        tracker.incrementArrayAccesses(2);
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        tracker.incrementExtract();
+        return min;
+    }
+
+    public void decreaseKey(long index, int newVal) {
+        if (index < 0 || index >= size) throw new IllegalArgumentException("Invalid index");
+        int current = get(index);
+        tracker.incrementArrayAccesses(1);
+        if (newVal > current) throw new IllegalArgumentException("New value is greater than current value");
+        siftUp(index, newVal);
+    }
+
+    private void siftUp(long i, int value) {
+        while (i > 0) {
+            long p = parent(i);
+            int pv = get(p);
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementComparisons();
+            if (pv <= value) break;
+            set(i, pv);
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = p;
+        }
+        set(i, value);
+        tracker.incrementArrayAccesses(1);
+    }
+
+    private void siftDown(long i, int value) {
+        long n = size;
+        while (true) {
+            long l = left(i);
+            if (l >= n) break;
+            long smallest = l;
+            int sv = get(l);
+            tracker.incrementArrayAccesses(1);
+            long r = l + 1;
+            if (r < n) {
+                int rv = get(r);
+                tracker.incrementArrayAccesses(1);
+                tracker.incrementComparisons();
+                if (rv < sv) {
+                    smallest = r;
+                    sv = rv;
+                }
+            }
+            tracker.incrementComparisons();
+            if (sv >= value) break;
+            set(i, sv);
+            tracker.incrementArrayAccesses(1);
+            tracker.incrementSwap();
+            i = smallest;
+        }
+        set(i, value);
+        tracker.incrementArrayAccesses(1);
+    }
+
+    // maps further segments until minCapacity slots exist; mapping past EOF extends the file
+    public void ensureCapacity(long minCapacity) throws IOException {
+        long segmentInts = 1L << segmentShift;
+        int needed = (int) ((minCapacity + segmentInts - 1) >>> segmentShift);
+        if (needed <= segments.length) return;
+        MappedByteBuffer[] grown = Arrays.copyOf(segments, needed);
+        long segmentBytes = segmentInts << 2;
+        for (int s = segments.length; s < needed; s++) {
+            grown[s] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + s * segmentBytes, segmentBytes);
+            grown[s].order(ByteOrder.nativeOrder());
+        }
+        segments = grown;
+    }
+
+    private void writeSize() {
+        header.putLong(16, size);
+    }
+
+    // flushes the element count and every dirty page to the storage device
+    public void force() {
+        writeSize();
+        header.force();
+        for (MappedByteBuffer segment : segments) segment.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeSize();
+        channel.close();
+    }
+
+    public void clear() { size = 0; }
+
+    public long size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public long capacity() { return (long) segments.length << segmentShift; }
+    public Tracker getTracker() { return tracker; }
+}
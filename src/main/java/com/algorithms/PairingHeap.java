@@ -0,0 +1,281 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.metrics.Operation;
+import com.metrics.Tracker;
+
+// Two-pass pairing heap (Fredman, Sedgewick, Sleator & Tarjan) over a pooled node store. insert, meld and
+// peek are O(1); extractMin is O(log n) amortized and decreaseKey o(log n) amortized. A node is an int
+// handle into the parallel arrays of a NodePool, so steady-state operation allocates nothing: freed handles
+// are reused and the arrays only grow. Heaps that share a pool meld in O(1) by linking their roots.
+// A link, the pairing heap's unit of restructuring, is reported to the tracker as a swap.
+// Handles are only checked against the pool: decreaseKey with a live handle owned by another heap on the
+// same pool is rejected when that handle is the other heap's root, but a non-root one would be moved into
+// this heap. Proving ownership would take a walk to the root per call, so callers keep handles per heap.
+public class PairingHeap {
+    private static final int NIL = -1;
+
+    private final NodePool pool;
+    private final Tracker tracker;
+    private int root = NIL;
+    private int size;
+
+    public PairingHeap(Tracker tracker) {
+        this(new NodePool(), tracker);
+    }
+
+    public PairingHeap(NodePool pool, Tracker tracker) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+    }
+
+    // returns the handle of the new node, valid until it is extracted
+    public int insert(int key) {
+        if (!tracker.isLatencyEnabled()) return doInsert(key);
+        long start = System.nanoTime();
+        int h = doInsert(key);
+        tracker.recordLatency(Operation.INSERT, System.nanoTime() - start);
+        return h;
+    }
+
+    private int doInsert(int key) {
+        int h = pool.allocate(key);
+        tracker.incrementArrayAccesses(1);
+        tracker.incrementInsert();
+        root = root == NIL ? h : link(root, h);
+        size++;
+        return h;
+    }
+
+    public int peek() {
+        if (root == NIL) throw new IllegalStateException("Heap is empty");
+        return pool.key[root];
+    }
+
+    public int peekHandle() {
+        if (root == NIL) throw new IllegalStateException("Heap is empty");
+        return root;
+    }
+
+    public int extractMin() {
+        if (!tracker.isLatencyEnabled()) return doExtractMin();
+        long start = System.nanoTime();
+        int min = doExtractMin();
+        tracker.recordLatency(Operation.EXTRACT_MIN, System.nanoTime() - start);
+        return min;
+    }
+
+    private int doExtractMin() {
+        if (root == NIL) throw new IllegalStateException("Heap is empty");
+        int r = root;
+        int min = pool.key[r];
+        tracker.incrementArrayAccesses(2);
+        root = combineSiblings(pool.child[r]);
+        pool.free(r);
+        size--;
+        tracker.incrementExtract();
+        return min;
+    }
+
+    public void decreaseKey(int handle, int newKey) {
+        if (!tracker.isLatencyEnabled()) {
+            doDecreaseKey(handle, newKey);
+            return;
+        }
+        long start = System.nanoTime();
+        doDecreaseKey(handle, newKey);
+        tracker.recordLatency(Operation.DECREASE_KEY, System.nanoTime() - start);
+    }
+
+    private void doDecreaseKey(int handle, int newKey) {
+        checkHandle(handle);
+        // only a root has no prev; any root but ours belongs to another heap on this pool
+        if (pool.prev[handle] == NIL && handle != root) {
+            throw new IllegalArgumentException("Handle " + handle + " belongs to another heap");
+        }
+        int[] key = pool.key;
+        tracker.incrementArrayAccesses(1);
+        if (newKey > key[handle]) throw new IllegalArgumentException("New key is greater than current key");
+        key[handle] = newKey;
+        tracker.incrementArrayAccesses(1);
+        if (handle == root) return;
+        cut(handle);
+        root = link(root, handle);
+    }
+
+    // O(1) when both heaps draw from the same pool, otherwise other's keys are inserted one by one;
+    // other is left empty either way and its handles are no longer valid
+    public void meld(PairingHeap other) {
+        if (other == this || other.root == NIL) return;
+        if (other.pool == pool) {
+            root = root == NIL ? other.root : link(root, other.root);
+            size += other.size;
+        } else {
+            while (!other.isEmpty()) insert(other.extractMin());
+        }
+        other.root = NIL;
+        other.size = 0;
+    }
+
+    public int keyOf(int handle) {
+        checkHandle(handle);
+        return pool.key[handle];
+    }
+
+    // whether handle names a node currently in some heap of this pool
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < pool.used && pool.prev[handle] != NodePool.FREE;
+    }
+
+    private void checkHandle(int handle) {
+        if (!contains(handle)) throw new IllegalArgumentException("Invalid handle: " + handle);
+    }
+
+    // makes the root with the larger key the leftmost child of the other; both must be roots
+    private int link(int a, int b) {
+        int[] key = pool.key;
+        int[] child = pool.child;
+        int[] sibling = pool.sibling;
+        int[] prev = pool.prev;
+        tracker.incrementArrayAccesses(2);
+        tracker.incrementComparisons();
+        int winner = key[b] < key[a] ? b : a;
+        int loser = winner == a ? b : a;
+        int first = child[winner];
+        sibling[loser] = first;
+        if (first != NIL) prev[first] = loser;
+        prev[loser] = winner;
+        child[winner] = loser;
+        sibling[winner] = NIL;
+        prev[winner] = NIL;
+        tracker.incrementArrayAccesses(6);
+        tracker.incrementSwap();
+        return winner;
+    }
+
+    // detaches the subtree at h from its parent or left sibling
+    private void cut(int h) {
+        int[] child = pool.child;
+        int[] sibling = pool.sibling;
+        int[] prev = pool.prev;
+        int p = prev[h];
+        if (child[p] == h) {
+            child[p] = sibling[h];
+        } else {
+            sibling[p] = sibling[h];
+        }
+        if (sibling[h] != NIL) prev[sibling[h]] = p;
+        sibling[h] = NIL;
+        prev[h] = NIL;
+        tracker.incrementArrayAccesses(6);
+    }
+
+    // Two-pass pairing: link siblings in pairs left to right, then fold the pairs right to left. The first
+    // pass threads its results through `sibling` in reverse so the second pass needs no extra storage.
+    private int combineSiblings(int first) {
+        if (first == NIL) return NIL;
+        int[] sibling = pool.sibling;
+        int pairs = NIL;
+        int a = first;
+        while (a != NIL) {
+            int b = sibling[a];
+            if (b == NIL) {
+                pool.prev[a] = NIL;
+                sibling[a] = pairs;
+                pairs = a;
+                break;
+            }
+            int next = sibling[b];
+            int m = link(a, b);
+            sibling[m] = pairs;
+            pairs = m;
+            a = next;
+        }
+        int result = pairs;
+        int rest = sibling[result];
+        sibling[result] = NIL;
+        while (rest != NIL) {
+            int next = sibling[rest];
+            sibling[rest] = NIL;
+            result = link(result, rest);
+            rest = next;
+        }
+        tracker.incrementArrayAccesses(2);
+        return result;
+    }
+
+    // releases every node back to the pool
+    public void clear() {
+        while (root != NIL) {
+            int r = root;
+            root = combineSiblings(pool.child[r]);
+            pool.free(r);
+        }
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public NodePool getPool() { return pool; }
+    public Tracker getTracker() { return tracker; }
+
+    // Struct-of-arrays node storage shared by any number of heaps on one thread. Freed nodes form a
+    // free list threaded through `sibling`; prev == FREE marks them.
+    public static final class NodePool {
+        private static final int DEFAULT_CAPACITY = 16;
+        static final int FREE = -2;
+
+        private int[] key;
+        private int[] child;
+        private int[] sibling;
+        private int[] prev;
+        private int used;
+        private int freeList = NIL;
+
+        public NodePool() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        public NodePool(int initialCapacity) {
+            if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+            key = new int[initialCapacity];
+            child = new int[initialCapacity];
+            sibling = new int[initialCapacity];
+            prev = new int[initialCapacity];
+        }
+
+        int allocate(int k) {
+            int h;
+            if (freeList != NIL) {
+                h = freeList;
+                freeList = sibling[h];
+            } else {
+                if (used == key.length) grow();
+                h = used++;
+            }
+            key[h] = k;
+            child[h] = NIL;
+            sibling[h] = NIL;
+            prev[h] = NIL;
+            return h;
+        }
+
+        void free(int h) {
+            prev[h] = FREE;
+            sibling[h] = freeList;
+            freeList = h;
+        }
+
+        private void grow() {
+            int capacity = GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, key.length, used + 1);
+            key = Arrays.copyOf(key, capacity);
+            child = Arrays.copyOf(child, capacity);
+            sibling = Arrays.copyOf(sibling, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+
+        public int capacity() { return key.length; }
+    }
+}
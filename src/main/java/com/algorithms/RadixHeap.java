@@ -0,0 +1,144 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.metrics.Operation;
+import com.metrics.Tracker;
+
+// Monotone priority queue over int keys (Ahuja, Mehlhorn, Orlin & Tarjan): keys may never be inserted
+// below the last extracted key, as in Dijkstra with non-negative weights or an event clock. Bucket b holds
+// the keys whose highest bit differing from `last` is bit b-1; bucket 0 holds keys equal to `last`. An
+// extract from an empty bucket 0 takes the smallest key of the lowest non-empty bucket as the new `last`
+// and redistributes that bucket into strictly lower ones, so each key moves at most 32 times over its life
+// and no comparisons between keys are needed except to find that minimum. Signed keys work unchanged:
+// above a negative `last`, every non-negative key differs in the sign bit and lands in the top bucket.
+// A redistributed key is reported to the tracker as a swap.
+public class RadixHeap {
+    private static final int BUCKETS = Integer.SIZE + 1;
+    private static final int DEFAULT_BUCKET_CAPACITY = 8;
+
+    private final int[][] buckets = new int[BUCKETS][];
+    private final int[] counts = new int[BUCKETS];
+    private final int initialFloor;
+    private int last;
+    private int size;
+    private final Tracker tracker;
+
+    public RadixHeap(Tracker tracker) {
+        this(tracker, Integer.MIN_VALUE);
+    }
+
+    // floor: the smallest key the heap will accept until the first extract
+    public RadixHeap(Tracker tracker, int floor) {
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.initialFloor = floor;
+        this.last = floor;
+        for (int b = 0; b < BUCKETS; b++) buckets[b] = new int[DEFAULT_BUCKET_CAPACITY];
+    }
+
+    private static int bucketOf(int key, int last) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(key ^ last);
+    }
+
+    public void insert(int key) {
+        if (!tracker.isLatencyEnabled()) {
+            doInsert(key);
+            return;
+        }
+        long start = System.nanoTime();
+        doInsert(key);
+        tracker.recordLatency(Operation.INSERT, System.nanoTime() - start);
+    }
+
+    private void doInsert(int key) {
+        if (key < last) throw new IllegalArgumentException("Key " + key + " is below the last extracted key " + last);
+        push(bucketOf(key, last), key);
+        size++;
+        tracker.incrementInsert();
+    }
+
+    private void push(int b, int key) {
+        int[] bucket = buckets[b];
+        int n = counts[b];
+        if (n == bucket.length) {
+            bucket = buckets[b] = Arrays.copyOf(bucket, GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, n, n + 1));
+        }
+        bucket[n] = key;
+        counts[b] = n + 1;
+        tracker.incrementArrayAccesses(1);
+    }
+
+    // Does not redistribute, so peeking does not raise the floor for later inserts.
+    public int peek() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        if (counts[0] > 0) return last;
+        return minOf(lowestNonEmpty());
+    }
+
+    public int extractMin() {
+        if (!tracker.isLatencyEnabled()) return doExtractMin();
+        long start = System.nanoTime();
+        int min = doExtractMin();
+        tracker.recordLatency(Operation.EXTRACT_MIN, System.nanoTime() - start);
+        return min;
+    }
+
+    private int doExtractMin() {
+        if (size == 0) throw new IllegalStateException("Heap is empty");
+        if (counts[0] == 0) redistribute(lowestNonEmpty());
+        counts[0]--;
+        size--;
+        tracker.incrementArrayAccesses(1);
+        tracker.incrementExtract();
+        return last;
+    }
+
+    private int lowestNonEmpty() {
+        int b = 1;
+        while (counts[b] == 0) b++;
+        return b;
+    }
+
+    private int minOf(int b) {
+        int[] bucket = buckets[b];
+        int n = counts[b];
+        int min = bucket[0];
+        for (int i = 1; i < n; i++) {
+            tracker.incrementComparisons();
+            if (bucket[i] < min) min = bucket[i];
+        }
+        tracker.incrementArrayAccesses(n);
+        return min;
+    }
+
+    // every key in bucket b shares its bits above b-1 with the bucket minimum, so relative to the new
+    // `last` each one falls into a bucket below b
+    private void redistribute(int b) {
+        int min = minOf(b);
+        last = min;
+        int[] bucket = buckets[b];
+        int n = counts[b];
+        counts[b] = 0;
+        for (int i = 0; i < n; i++) {
+            int key = bucket[i];
+            push(bucketOf(key, min), key);
+            tracker.incrementSwap();
+        }
+        tracker.incrementArrayAccesses(n);
+    }
+
+    // the smallest key insert() currently accepts
+    public int floor() { return last; }
+
+    // also resets the floor to the one the heap was created with
+    public void clear() {
+        Arrays.fill(counts, 0);
+        last = initialFloor;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public Tracker getTracker() { return tracker; }
+}
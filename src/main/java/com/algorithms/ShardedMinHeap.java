@@ -0,0 +1,239 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.metrics.Tracker;
+
+// One MinHeap per worker for ingest-heavy queues. A worker inserts into and drains its own shard, whose
+// lock only ever sees another thread when a global extract or the rebalancer picks that shard, so the
+// insert path stays on the worker's own cache lines. tryExtractMin() is a tournament over the published
+// shard tops and is strict up to races; extractLocal() and drainLocal() only look at the caller's shard and
+// are relaxed by however far that shard's minimum is from the global one. The rebalancer narrows that gap
+// by pairing the shard with the smallest top with the one with the largest, then the second smallest with
+// the second largest and so on, and dealing every other key of the low shard's smallest batch to its
+// partner. All shards report to one tracker, which therefore has to be thread-safe.
+public class ShardedMinHeap implements AutoCloseable {
+    private static final long EMPTY = Long.MAX_VALUE;
+    private static final int DEFAULT_RANK_SAMPLE_INTERVAL = 64;
+    private static final int DEFAULT_REBALANCE_BATCH = 64;
+    private static final int RANK_COUNT_LIMIT = 1 << 16;
+
+    private final Shard[] shards;
+    private final Tracker tracker;
+    private final int rankSampleInterval;
+    private final int rebalanceBatch;
+    private ScheduledExecutorService rebalancer;
+
+    public ShardedMinHeap(int shardCount, Tracker tracker) {
+        this(shardCount, tracker, DEFAULT_RANK_SAMPLE_INTERVAL, DEFAULT_REBALANCE_BATCH);
+    }
+
+    // about one in rankSampleInterval extracts measures its rank error; 0 disables sampling
+    public ShardedMinHeap(int shardCount, Tracker tracker, int rankSampleInterval, int rebalanceBatch) {
+        if (shardCount < 1) throw new IllegalArgumentException("Shard count must be positive");
+        if (rankSampleInterval < 0) throw new IllegalArgumentException("Sample interval must be non-negative");
+        if (rebalanceBatch < 2) throw new IllegalArgumentException("Rebalance batch must be at least 2");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
+        this.rankSampleInterval = rankSampleInterval;
+        this.rebalanceBatch = rebalanceBatch;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) shards[i] = new Shard(i, tracker);
+    }
+
+    public void insert(int shard, int value) {
+        Shard s = shards[shard];
+        s.lock.lock();
+        try {
+            s.heap.insert(value);
+            if (value < s.top) s.top = value;
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    // smallest key of the caller's shard, or null if that shard is empty
+    public Integer extractLocal(int shard) {
+        Shard s = shards[shard];
+        int value;
+        s.lock.lock();
+        try {
+            if (s.heap.isEmpty()) return null;
+            value = s.heap.extractMin();
+            s.publishTop();
+        } finally {
+            s.lock.unlock();
+        }
+        sampleRankError(value);
+        return value;
+    }
+
+    // up to dest.length of the shard's smallest keys in ascending order; returns how many
+    public int drainLocal(int shard, int[] dest) {
+        Shard s = shards[shard];
+        int count;
+        s.lock.lock();
+        try {
+            count = s.heap.extractMin(dest.length, dest);
+            s.publishTop();
+        } finally {
+            s.lock.unlock();
+        }
+        if (count > 0) sampleRankError(dest[0]);
+        return count;
+    }
+
+    // Global minimum: scan every shard's published top and pop the winner. Another thread can change that
+    // shard between the scan and the lock, so the result is the minimum as of the scan. null when every
+    // shard was seen empty.
+    public Integer tryExtractMin() {
+        while (true) {
+            Shard best = null;
+            long bestTop = EMPTY;
+            for (Shard s : shards) {
+                long top = s.top;
+                if (top < bestTop) {
+                    bestTop = top;
+                    best = s;
+                }
+            }
+            if (best == null) return null;
+            int value;
+            best.lock.lock();
+            try {
+                if (best.heap.isEmpty()) continue;
+                value = best.heap.extractMin();
+                best.publishTop();
+            } finally {
+                best.lock.unlock();
+            }
+            sampleRankError(value);
+            return value;
+        }
+    }
+
+    // One rebalancing pass; returns how many keys moved between shards.
+    public int rebalance() {
+        // sort on a snapshot: the live tops may change mid-sort and break the comparator's contract
+        long[] tops = new long[shards.length];
+        Integer[] order = new Integer[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            tops[i] = shards[i].top;
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> tops[i]));
+        int[] buf = new int[rebalanceBatch];
+        int moved = 0;
+        for (int i = 0, j = order.length - 1; i < j; i++, j--) moved += transfer(shards[order[i]], shards[order[j]], buf);
+        return moved;
+    }
+
+    private int transfer(Shard low, Shard high, int[] buf) {
+        if (low.top == EMPTY || low.top >= high.top) return 0;
+        Shard first = low.id < high.id ? low : high;
+        Shard second = first == low ? high : low;
+        first.lock.lock();
+        second.lock.lock();
+        try {
+            int k = low.heap.extractMin(buf.length, buf);
+            int moved = 0;
+            for (int i = 0; i < k; i++) {
+                if ((i & 1) == 0) {
+                    low.heap.insert(buf[i]);
+                } else {
+                    high.heap.insert(buf[i]);
+                    moved++;
+                }
+            }
+            low.publishTop();
+            high.publishTop();
+            return moved;
+        } finally {
+            second.lock.unlock();
+            first.lock.unlock();
+        }
+    }
+
+    // Runs rebalance() every period on a daemon thread until close().
+    public synchronized void startRebalancing(long period, TimeUnit unit) {
+        if (rebalancer != null) throw new IllegalStateException("Rebalancing already started");
+        rebalancer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sharded-heap-rebalancer");
+            t.setDaemon(true);
+            return t;
+        });
+        rebalancer.scheduleWithFixedDelay(this::rebalance, period, period, unit);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (rebalancer == null) return;
+        rebalancer.shutdownNow();
+        try {
+            rebalancer.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rebalancer = null;
+    }
+
+    private void sampleRankError(int value) {
+        if (rankSampleInterval > 0 && ThreadLocalRandom.current().nextInt(rankSampleInterval) == 0) {
+            tracker.recordRankError(rankError(value));
+        }
+    }
+
+    // Lower bound on how many keys a strict heap would have returned before value: the keys below it in
+    // every shard that can be locked right away, and at least one for a busy shard whose top is below it.
+    private long rankError(int value) {
+        long error = 0;
+        for (Shard s : shards) {
+            if (s.top >= value) continue;
+            if (!s.lock.tryLock()) {
+                error++;
+                continue;
+            }
+            try {
+                error += s.heap.countLessThan(value, RANK_COUNT_LIMIT);
+            } finally {
+                s.lock.unlock();
+            }
+        }
+        return error;
+    }
+
+    public boolean isEmpty() {
+        for (Shard s : shards) {
+            if (s.top != EMPTY) return false;
+        }
+        return true;
+    }
+
+    // smallest key each shard currently publishes, Long.MAX_VALUE for an empty shard
+    public long shardTop(int shard) { return shards[shard].top; }
+    public int shardCount() { return shards.length; }
+    public Tracker getTracker() { return tracker; }
+
+    private static final class Shard {
+        final int id;
+        final ReentrantLock lock = new ReentrantLock();
+        final MinHeap heap;
+        // readable without the lock so the tournament and the rebalancer can compare shards first
+        volatile long top = EMPTY;
+
+        Shard(int id, Tracker tracker) {
+            this.id = id;
+            this.heap = new MinHeap(tracker);
+        }
+
+        void publishTop() {
+            top = heap.isEmpty() ? EMPTY : heap.peek();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.algorithms;
+
+// How MinHeap's sift-down picks the smallest child of a node.
+public enum SiftMode {
+    // compare-and-branch over the children; cheapest when the branches predict well
+    BRANCHY,
+    // running Math.min plus a conditional index select, which the JIT turns into cmov
+    BRANCHLESS,
+    // one lane-wise min over the contiguous child group (arity 4, 8 or 16 ints, at most 64 bytes) with the
+    // jdk.incubator.vector API; BRANCHLESS when the module is not in the boot layer or the arity has no
+    // matching hardware vector
+    VECTOR
+}
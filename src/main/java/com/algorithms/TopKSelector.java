@@ -0,0 +1,77 @@
+package com.algorithms;
+
+import java.util.Arrays;
+
+import com.metrics.Tracker;
+
+// Keeps the k largest values of a stream in a MinHeap of capacity k. Once full, the root is the smallest
+// value kept, so an offer is one comparison for values that do not qualify and one replaceMin otherwise.
+// The backing array is sized up front and never grows; nothing allocates after construction.
+public class TopKSelector {
+    private final MinHeap heap;
+    private final int k;
+
+    public TopKSelector(int k, Tracker tracker) {
+        this(k, tracker, 2);
+    }
+
+    public TopKSelector(int k, Tracker tracker, int arity) {
+        if (k < 1) throw new IllegalArgumentException("k must be positive");
+        this.k = k;
+        this.heap = new MinHeap(tracker, arity, k, GrowthPolicy.DOUBLING);
+    }
+
+    // returns whether value is now among the k largest seen
+    public boolean offer(int value) {
+        if (heap.size() < k) {
+            heap.insert(value);
+            return true;
+        }
+        heap.getTracker().incrementComparisons();
+        if (value <= heap.peek()) return false;
+        heap.replaceMin(value);
+        return true;
+    }
+
+    public void offerAll(int[] values, int off, int len) {
+        for (int i = off; i < off + len; i++) offer(values[i]);
+    }
+
+    // folds in another selector's values, e.g. per-thread results; other is left unchanged
+    public void merge(TopKSelector other) {
+        int from = other.heap.base();
+        int n = other.heap.size();
+        if (other == this) {
+            offerAll(Arrays.copyOfRange(heap.slots(), from, from + n), 0, n);
+        } else {
+            offerAll(other.heap.slots(), from, n);
+        }
+    }
+
+    // the smallest value kept; a new value must beat it once the selector is full
+    public int threshold() {
+        return heap.peek();
+    }
+
+    // Copies the kept values into dest in descending order and returns how many there are.
+    // The selector itself is left as it was.
+    public int sortedInto(int[] dest) {
+        int n = heap.size();
+        if (dest.length < n) throw new IllegalArgumentException("Destination holds fewer than " + n + " elements");
+        System.arraycopy(heap.slots(), heap.base(), dest, 0, n);
+        Arrays.sort(dest, 0, n);
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int t = dest[i];
+            dest[i] = dest[j];
+            dest[j] = t;
+        }
+        return n;
+    }
+
+    public void clear() { heap.clear(); }
+
+    public int size() { return heap.size(); }
+    public boolean isFull() { return heap.size() == k; }
+    public int capacity() { return k; }
+    public Tracker getTracker() { return heap.getTracker(); }
+}
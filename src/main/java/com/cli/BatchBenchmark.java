@@ -0,0 +1,92 @@
+package com.cli;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.GrowthPolicy;
+import com.algorithms.MinHeap;
+import com.metrics.NoOpTracker;
+
+// Chunked draining and filling: n/2 extracts from a heap of n (BenchmarkRunner's workload) and n/2 inserts
+// into a heap of n/2, in chunks of k through the batch APIs or one element at a time. k = 0 stands for a
+// single chunk of n/2. Each iteration starts from freshly built heaps.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class BatchBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int n;
+
+    @Param({"1", "16", "256", "0"})
+    public int k;
+
+    private int[] data;
+    private int[] chunk;
+    private int half;
+    private MinHeap full;
+    private MinHeap partial;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(42);
+        data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = rnd.nextInt();
+        half = n / 2;
+        chunk = new int[k == 0 ? half : k];
+    }
+
+    @Setup(Level.Iteration)
+    public void build() {
+        full = MinHeap.fromArray(data, NoOpTracker.INSTANCE);
+        partial = new MinHeap(NoOpTracker.INSTANCE, n, GrowthPolicy.DOUBLING);
+        partial.insertAll(data, 0, half);
+    }
+
+    @Benchmark
+    public long extractBatched() {
+        long sum = 0;
+        for (int left = half; left > 0; ) {
+            int got = full.extractMin(Math.min(chunk.length, left), chunk);
+            for (int i = 0; i < got; i++) sum += chunk[i];
+            left -= got;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long extractLoop() {
+        long sum = 0;
+        for (int i = 0; i < half; i++) sum += full.extractMin();
+        return sum;
+    }
+
+    @Benchmark
+    public int insertBatched() {
+        int step = chunk.length;
+        for (int off = half; off < n; off += step) partial.insertAll(data, off, Math.min(step, n - off));
+        return partial.size();
+    }
+
+    @Benchmark
+    public int insertLoop() {
+        for (int i = half; i < n; i++) partial.insert(data[i]);
+        return partial.size();
+    }
+}
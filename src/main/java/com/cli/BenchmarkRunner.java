@@ -11,9 +11,10 @@ public class BenchmarkRunner {
         int n = 1000;
         String distribution = "random";
         String output = "/docs/performance-plots/minheap_metrics.csv";
+        String latencyOutput = null;
 
         // CLI arguments
-        // java -cp target/classes com.cli.BenchmarkRunner --n <number> --distribution <type> --output <file.csv>
+        // java -cp target/classes com.cli.BenchmarkRunner --n <number> --distribution <type> --output <file.csv> [--latency-output <file.csv>]
         // types: random, sorted, reversed
 
         for (int i = 0; i < args.length; i++) {
@@ -27,6 +28,9 @@ public class BenchmarkRunner {
                 case "--output":
                     output = args[++i];
                     break;
+                case "--latency-output":
+                    latencyOutput = args[++i];
+                    break;
             }
         }
 
@@ -35,12 +39,11 @@ public class BenchmarkRunner {
         int[] data = generateData(n, distribution);
 
         PerformanceTracker tracker = new PerformanceTracker();
+        if (latencyOutput != null) tracker.enableLatencyRecording();
         MinHeap heap = new MinHeap(tracker);
 
         tracker.startTimer();
-        for (int value : data) {
-            heap.insert(value);
-        }
+        heap.addAll(data);
         int extractCount = n / 2;
         for (int i = 0; i < extractCount; i++) {
             heap.extractMin();
@@ -51,6 +54,10 @@ public class BenchmarkRunner {
         try {
             tracker.exportCsv(output, n, distribution);
             System.out.println("Results exported to " + output);
+            if (latencyOutput != null) {
+                tracker.exportLatencyCsv(latencyOutput, n, distribution);
+                System.out.println("Latency percentiles exported to " + latencyOutput);
+            }
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -0,0 +1,120 @@
+package com.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.BlockedMinHeap;
+import com.algorithms.GrowthPolicy;
+import com.algorithms.MinHeap;
+import com.metrics.NoOpTracker;
+
+// Steady-state extractMin + insert on a heap of n random keys, implicit binary MinHeap against the B-heap
+// layout. Each op is HOLD_OPS pairs. Page faults per op come from /proc/self/stat (minflt, majflt) and
+// show up as the minorFaults / majorFaults secondary results; they stay at -1 where /proc is missing.
+// TLB misses need hardware counters: on Linux with perf installed add `-prof perfnorm` for dTLB-load-misses.
+// The default sizes fit in -Xmx6g. n = 10^9 is opt-in: the keys and the heap take about 8.2 GB during
+// setup, so run it with -p n=1000000000 -jvmArgsAppend -Xmx12g on a machine that has the memory.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BlockedHeapBenchmark {
+    private static final int HOLD_OPS = 1 << 16;
+    private static final Path PROC_STAT = Path.of("/proc/self/stat");
+
+    @Param({"10000000", "100000000"})
+    public int n;
+
+    @Param({"implicit", "blocked"})
+    public String layout;
+
+    private MinHeap implicit;
+    private BlockedMinHeap blocked;
+    private int[] keys;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Faults {
+        public long minorFaults;
+        public long majorFaults;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            minorFaults = 0;
+            majorFaults = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(42);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = rnd.nextInt();
+        // one bottom-up build instead of n sift-ups
+        if (layout.equals("blocked")) {
+            blocked = new BlockedMinHeap(NoOpTracker.INSTANCE, 10, n, GrowthPolicy.DOUBLING);
+            blocked.addAll(values);
+        } else {
+            implicit = new MinHeap(NoOpTracker.INSTANCE, 2, n, GrowthPolicy.DOUBLING);
+            implicit.addAll(values);
+        }
+        keys = new int[HOLD_OPS];
+        for (int i = 0; i < HOLD_OPS; i++) keys[i] = rnd.nextInt();
+    }
+
+    @Benchmark
+    public long extractAndInsert(Faults faults) {
+        long[] before = readFaults();
+        long sum = 0;
+        if (blocked != null) {
+            for (int k : keys) {
+                sum += blocked.extractMin();
+                blocked.insert(k);
+            }
+        } else {
+            for (int k : keys) {
+                sum += implicit.extractMin();
+                implicit.insert(k);
+            }
+        }
+        long[] after = readFaults();
+        if (before == null || after == null) {
+            faults.minorFaults = -1;
+            faults.majorFaults = -1;
+        } else {
+            faults.minorFaults += after[0] - before[0];
+            faults.majorFaults += after[1] - before[1];
+        }
+        return sum;
+    }
+
+    // fields 10 and 12 of /proc/self/stat; the command name in field 2 may contain spaces, so count from ')'
+    private static long[] readFaults() {
+        try {
+            String stat = Files.readString(PROC_STAT);
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return new long[] {Long.parseLong(fields[7]), Long.parseLong(fields[9])};
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.cli;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.FineGrainedMinHeap;
+import com.algorithms.LockedMinHeap;
+import com.metrics.NoOpTracker;
+
+// Each op inserts one random value and extracts one, so the queue stays near its prefilled size.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ConcurrentHeapBenchmark {
+
+    @Param({"locked", "fine_grained", "priority_blocking_queue"})
+    public String impl;
+
+    @Param({"10000"})
+    public int prefill;
+
+    private LockedMinHeap locked;
+    private FineGrainedMinHeap fineGrained;
+    private PriorityBlockingQueue<Integer> pbq;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        locked = null;
+        fineGrained = null;
+        pbq = null;
+        switch (impl) {
+            case "locked":
+                locked = new LockedMinHeap(NoOpTracker.INSTANCE);
+                break;
+            case "fine_grained":
+                fineGrained = new FineGrainedMinHeap(prefill * 4, NoOpTracker.INSTANCE);
+                break;
+            case "priority_blocking_queue":
+            default:
+                pbq = new PriorityBlockingQueue<>();
+                break;
+        }
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int i = 0; i < prefill; i++) insert(rnd.nextInt());
+    }
+
+    private void insert(int value) {
+        if (locked != null) locked.insert(value);
+        else if (fineGrained != null) fineGrained.insert(value);
+        else pbq.offer(value);
+    }
+
+    private Integer extract() {
+        if (locked != null) return locked.tryExtractMin();
+        if (fineGrained != null) return fineGrained.tryExtractMin();
+        return pbq.poll();
+    }
+
+    private Integer insertThenExtract() {
+        insert(ThreadLocalRandom.current().nextInt());
+        return extract();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads1() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(2)
+    public Integer threads2() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads4() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(8)
+    public Integer threads8() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16() { return insertThenExtract(); }
+}
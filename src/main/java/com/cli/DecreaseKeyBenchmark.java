@@ -0,0 +1,153 @@
+package com.cli;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.MinHeap;
+import com.algorithms.PairingHeap;
+import com.metrics.NoOpTracker;
+
+// One seeded insert / decrease-key / extract trace, roughly 5:3:2, replayed on the implicit d-ary MinHeap
+// and on the pooled PairingHeap with tracking off. The trace is generated against the live element set, so
+// every decrease-key hits a live element and every extract a non-empty heap: both engines do the same
+// number of operations. The array heap picks its target by slot, the pairing heap by the handle of a live
+// insert; both are uniform over the live elements.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class DecreaseKeyBenchmark {
+    private static final byte INSERT = 0;
+    private static final byte DECREASE = 1;
+    private static final byte EXTRACT = 2;
+
+    @Param({"100000", "1000000"})
+    public int n;
+
+    @Param({"2", "4"})
+    public int arity;
+
+    private int[] data;
+    private MinHeap heap;
+    private PairingHeap pairing;
+    private byte[] ops;
+    private int[] slots;
+    private int[] ordinals;
+    private int[] deltas;
+    private int[] handles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = MinHeapBenchmark.generateData(n, "random", new Random(42));
+        heap = new MinHeap(NoOpTracker.INSTANCE, arity);
+        pairing = new PairingHeap(NoOpTracker.INSTANCE);
+        handles = new int[n];
+        buildTrace();
+    }
+
+    // Runs the trace once on a pairing heap to learn which inserts are live at each step; the replays
+    // link and cut the same way, so the recorded targets stay live.
+    private void buildTrace() {
+        Random rnd = new Random(7);
+        PairingHeap sim = new PairingHeap(NoOpTracker.INSTANCE);
+        int length = 2 * n;
+        ops = new byte[length];
+        slots = new int[length];
+        ordinals = new int[length];
+        deltas = new int[length];
+        int[] live = new int[n];
+        int[] liveIndex = new int[n];
+        int[] handleOf = new int[n];
+        int[] ordinalOf = new int[n];
+        int inserts = 0;
+        int liveCount = 0;
+        int i = 0;
+        for (; i < length; i++) {
+            int r = rnd.nextInt(10);
+            if (inserts < n && (r < 5 || liveCount == 0)) {
+                ops[i] = INSERT;
+                int h = sim.insert(data[inserts]);
+                handleOf[inserts] = h;
+                ordinalOf[h] = inserts;
+                liveIndex[inserts] = liveCount;
+                live[liveCount++] = inserts;
+                inserts++;
+            } else if (liveCount == 0) {
+                break;
+            } else if (r < 8) {
+                ops[i] = DECREASE;
+                slots[i] = rnd.nextInt(liveCount);
+                ordinals[i] = live[rnd.nextInt(liveCount)];
+                deltas[i] = rnd.nextInt(1024);
+                int h = handleOf[ordinals[i]];
+                sim.decreaseKey(h, sim.keyOf(h) - deltas[i]);
+            } else {
+                ops[i] = EXTRACT;
+                int gone = ordinalOf[sim.peekHandle()];
+                sim.extractMin();
+                int last = live[--liveCount];
+                live[liveIndex[gone]] = last;
+                liveIndex[last] = liveIndex[gone];
+            }
+        }
+        if (i < length) {
+            ops = Arrays.copyOf(ops, i);
+        }
+    }
+
+    @Benchmark
+    public int mixedTraceArray() {
+        heap.clear();
+        int next = 0;
+        for (int i = 0; i < ops.length; i++) {
+            switch (ops[i]) {
+                case INSERT:
+                    heap.insert(data[next++]);
+                    break;
+                case DECREASE:
+                    heap.decreaseKey(slots[i], heap.keyAt(slots[i]) - deltas[i]);
+                    break;
+                default:
+                    heap.extractMin();
+            }
+        }
+        return heap.size();
+    }
+
+    @Benchmark
+    public int mixedTracePairing() {
+        pairing.clear();
+        int next = 0;
+        for (int i = 0; i < ops.length; i++) {
+            switch (ops[i]) {
+                case INSERT:
+                    handles[next] = pairing.insert(data[next]);
+                    next++;
+                    break;
+                case DECREASE:
+                    int h = handles[ordinals[i]];
+                    pairing.decreaseKey(h, pairing.keyOf(h) - deltas[i]);
+                    break;
+                default:
+                    pairing.extractMin();
+            }
+        }
+        return pairing.size();
+    }
+}
@@ -0,0 +1,176 @@
+package com.cli;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.IndexedMinHeap;
+import com.algorithms.LongMinHeap;
+import com.algorithms.LongRadixHeap;
+import com.metrics.NoOpTracker;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class DijkstraBenchmark {
+
+    @Param({"10000", "100000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    @Param({"100"})
+    public int maxWeight;
+
+    // compressed sparse row adjacency: edges of v are targets[offsets[v] .. offsets[v + 1])
+    private int[] offsets;
+    private int[] targets;
+    private int[] weights;
+    private int[] dist;
+    private IndexedMinHeap indexed;
+    private LongMinHeap longHeap;
+    private LongRadixHeap radix;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(42);
+        int edges = vertices * degree;
+        offsets = new int[vertices + 1];
+        targets = new int[edges];
+        weights = new int[edges];
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] = offsets[v] + degree;
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                targets[e] = rnd.nextInt(vertices);
+                weights[e] = 1 + rnd.nextInt(maxWeight);
+            }
+        }
+        dist = new int[vertices];
+        indexed = new IndexedMinHeap(vertices, NoOpTracker.INSTANCE);
+        longHeap = new LongMinHeap(NoOpTracker.INSTANCE);
+        radix = new LongRadixHeap(NoOpTracker.INSTANCE, 0L);
+    }
+
+    @Benchmark
+    public long indexedDecreaseKey() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        indexed.clear();
+        dist[0] = 0;
+        indexed.insert(0, 0);
+        while (!indexed.isEmpty()) {
+            int u = indexed.extractMinId();
+            int du = dist[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int nd = du + weights[e];
+                if (nd < dist[v]) {
+                    if (dist[v] == Integer.MAX_VALUE) {
+                        indexed.insert(v, nd);
+                    } else {
+                        indexed.decreaseKey(v, nd);
+                    }
+                    dist[v] = nd;
+                }
+            }
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long lazyDeletion() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        // (distance << 32 | vertex): stale entries are skipped when popped
+        PriorityQueue<Long> pq = new PriorityQueue<>();
+        dist[0] = 0;
+        pq.add(0L);
+        while (!pq.isEmpty()) {
+            long top = pq.poll();
+            int u = (int) top;
+            int du = (int) (top >>> 32);
+            if (du > dist[u]) continue;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int nd = du + weights[e];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    pq.add(((long) nd << 32) | v);
+                }
+            }
+        }
+        return checksum();
+    }
+
+    // lazyDeletion's packed keys on an unboxed binary heap and on a radix heap; the keys popped are
+    // non-decreasing because weights are positive, which is all the radix heap needs
+    @Benchmark
+    public long lazyDeletionLongHeap() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        longHeap.clear();
+        dist[0] = 0;
+        longHeap.insert(0L);
+        while (!longHeap.isEmpty()) {
+            long top = longHeap.extractMin();
+            int u = (int) top;
+            int du = (int) (top >>> 32);
+            if (du > dist[u]) continue;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int nd = du + weights[e];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    longHeap.insert(((long) nd << 32) | v);
+                }
+            }
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long lazyDeletionRadix() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        radix.clear();
+        dist[0] = 0;
+        radix.insert(0L);
+        while (!radix.isEmpty()) {
+            long top = radix.extractMin();
+            int u = (int) top;
+            int du = (int) (top >>> 32);
+            if (du > dist[u]) continue;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int nd = du + weights[e];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    radix.insert(((long) nd << 32) | v);
+                }
+            }
+        }
+        return checksum();
+    }
+
+    private long checksum() {
+        long sum = 0;
+        for (int d : dist) {
+            if (d != Integer.MAX_VALUE) sum += d;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,75 @@
+package com.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.DurabilityMode;
+import com.algorithms.DurableMinHeap;
+import com.metrics.Operation;
+import com.metrics.PerformanceTracker;
+
+// Logged mutation throughput per durability mode. The heap stays around 10^4 elements: each invocation
+// inserts, and extracts once the heap is full. Log volume and fsync percentiles are printed per trial.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+public class DurabilityBenchmark {
+    private static final int STEADY_SIZE = 10_000;
+
+    @Param({"NONE", "BATCHED", "PER_OP"})
+    public DurabilityMode mode;
+
+    private Path dir;
+    private PerformanceTracker tracker;
+    private DurableMinHeap heap;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("minheap-wal");
+        tracker = new PerformanceTracker();
+        tracker.enableLatencyRecording();
+        heap = DurableMinHeap.recover(dir.resolve("heap.snap"), dir.resolve("heap.log"), tracker, mode);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        heap.close();
+        System.out.printf("%nlog records=%d bytes=%d fsyncs=%d p50=%dns p99=%dns%n",
+                tracker.getLogRecords(), tracker.getLogBytes(),
+                tracker.getLatencyHistogram(Operation.FSYNC).getCount(),
+                tracker.getLatencyHistogram(Operation.FSYNC).getP50(),
+                tracker.getLatencyHistogram(Operation.FSYNC).getP99());
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) Files.delete(p);
+        }
+    }
+
+    @Benchmark
+    public int mutate() throws IOException {
+        if (heap.size() >= STEADY_SIZE) return heap.extractMin();
+        heap.insert(ThreadLocalRandom.current().nextInt());
+        return heap.size();
+    }
+}
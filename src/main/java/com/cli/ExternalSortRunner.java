@@ -0,0 +1,103 @@
+package com.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import com.algorithms.ExternalSorter;
+import com.metrics.PerformanceTracker;
+
+public class ExternalSortRunner {
+
+    public static void main(String[] args) throws IOException {
+        Path input = null;
+        Path output = Paths.get("sorted.bin");
+        Path tmp = null;
+        long generate = 0;
+        int runElements = 1 << 24;
+        int fanIn = 64;
+        int bufferKb = 256;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        // CLI arguments
+        // java -cp target/classes com.cli.ExternalSortRunner --input <file> [--output <file>] [--tmp <dir>]
+        //     [--generate <ints>] [--run-size <ints>] [--fan-in <k>] [--buffer-kb <kb>] [--threads <n>]
+        // files hold little-endian 32-bit ints; --generate first writes that many random ints to --input
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--input":
+                    input = Paths.get(args[++i]);
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--tmp":
+                    tmp = Paths.get(args[++i]);
+                    break;
+                case "--generate":
+                    generate = Long.parseLong(args[++i]);
+                    break;
+                case "--run-size":
+                    runElements = Integer.parseInt(args[++i]);
+                    break;
+                case "--fan-in":
+                    fanIn = Integer.parseInt(args[++i]);
+                    break;
+                case "--buffer-kb":
+                    bufferKb = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+            }
+        }
+        if (input == null) {
+            System.err.println("--input is required");
+            System.exit(2);
+        }
+        if (tmp == null) tmp = output.toAbsolutePath().getParent();
+        if (generate > 0) generateInput(input, generate);
+
+        System.out.printf("External sort: input=%s, run=%d ints, fan-in=%d, threads=%d%n", input, runElements, fanIn, threads);
+
+        PerformanceTracker tracker = new PerformanceTracker();
+        ExternalSorter sorter = new ExternalSorter(runElements, fanIn, bufferKb * 1024, threads, tracker);
+        tracker.startTimer();
+        ExternalSorter.Result result = sorter.sort(input, output, tmp);
+        tracker.stopTimer();
+
+        System.out.printf("%d ints (%.1f MB) in %d runs, %d passes (%d merge)%n", result.getElements(),
+                result.getBytes() / 1e6, result.getRuns(), result.getPasses(), result.getMergePasses());
+        System.out.printf("run formation %.1f ms, merge %.1f ms, throughput %.1f MB/s%n",
+                result.getRunFormationNanos() / 1e6, result.getMergeNanos() / 1e6, result.throughputMBps());
+        System.out.println("Merge heap counts (time covers the whole sort):");
+        tracker.printToStdout();
+        System.out.println("Sorted output written to " + output);
+    }
+
+    private static void generateInput(Path file, long count) throws IOException {
+        Random rnd = new Random(42);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long i = 0; i < count; i++) {
+                buffer.putInt(rnd.nextInt());
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) out.write(buffer);
+                    buffer.clear();
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) out.write(buffer);
+        }
+        System.out.printf("Generated %d random ints in %s%n", count, file);
+    }
+}
@@ -0,0 +1,78 @@
+package com.cli;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.HeapSort;
+
+// In-place bottom-up heapsort and nsmallest against the JDK sorts, over MinHeapBenchmark's distributions.
+// Every invocation sorts a fresh copy of the same input.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class HeapSortBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int n;
+
+    @Param({"random", "sorted", "reversed", "nearly_sorted"})
+    public String distribution;
+
+    @Param({"100"})
+    public int k;
+
+    private int[] data;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = MinHeapBenchmark.generateData(n, distribution, new Random(42));
+        work = new int[n];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(data, 0, work, 0, n);
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        HeapSort.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        Arrays.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        Arrays.parallelSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] nsmallest() {
+        HeapSort.nsmallest(work, k);
+        return work;
+    }
+}
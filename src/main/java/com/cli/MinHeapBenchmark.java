@@ -22,6 +22,8 @@ import org.openjdk.jmh.annotations.Warmup;
 
 import com.algorithms.MinHeap;
 import com.metrics.PerformanceTracker;
+import com.metrics.Tracker;
+import com.metrics.TrackingMode;
 
 
 
@@ -29,35 +31,47 @@ import com.metrics.PerformanceTracker;
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 @State(Scope.Thread)
 @Fork(1)
-@Warmup(iterations = 2) 
-@Measurement(iterations = 3) 
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
 public class MinHeapBenchmark {
 
-    @Param({"100", "1000", "10000"}) 
+    // a small default matrix; pass -p n=100,10000000 or -p distribution=reversed,nearly_sorted for more
+    @Param({"10000", "1000000"})
     public int n;
 
-    @Param({"random", "sorted", "reversed", "nearly_sorted"}) 
+    @Param({"random", "sorted"})
     public String distribution;
 
-    @Param({"heap_results.csv"}) 
+    // OFF / LOCAL / ATOMIC: cost of the instrumentation on the heap's hot paths
+    @Param({"ATOMIC", "LOCAL", "OFF"})
+    public TrackingMode trackingMode;
+
+    @Param({"2", "4"})
+    public int arity;
+
+    // one row per insertAndExtractHalf trial; the other benchmarks do not fill the counters
+    @Param({"minheap_benchmark.csv"})
     public String outputFile;
 
     private int[] data;
     private PerformanceTracker tracker;
+    private Tracker heapTracker;
     private MinHeap heap;
     private final Random rnd = new Random(42);
 
+    private boolean recorded;
     private double lastElapsed;
     private long lastInserts, lastExtracts, lastSwaps, lastArrayAccesses, lastComparisons;
 
     @Setup(Level.Trial)
     public void setup() {
         tracker = new PerformanceTracker();
-        heap = new MinHeap(tracker);
-        data = generateData(n, distribution);
+        heapTracker = trackingMode == TrackingMode.ATOMIC ? tracker : trackingMode.create();
+        heap = new MinHeap(heapTracker, arity);
+        data = generateData(n, distribution, rnd);
     }
 
-    private int[] generateData(int n, String distribution) {
+    static int[] generateData(int n, String distribution, Random rnd) {
         int[] arr = new int[n];
         switch (distribution) {
             case "sorted":
@@ -87,6 +101,8 @@ public class MinHeapBenchmark {
     @Benchmark
     public void insertAndExtractHalf() {
         tracker.reset();
+        heapTracker.reset();
+        heap.clear();
         tracker.startTimer();
 
         for (int val : data) {
@@ -100,23 +116,43 @@ public class MinHeapBenchmark {
         tracker.stopTimer();
 
         lastElapsed = tracker.getElapsedMillis();
-        lastInserts = tracker.getInsertCount();
-        lastExtracts = tracker.getExtractCount();
-        lastSwaps = tracker.getSwapCount();
-        lastArrayAccesses = tracker.getArrayAccesses();
-        lastComparisons = tracker.getComparisonCount();
+        lastInserts = heapTracker.getInsertCount();
+        lastExtracts = heapTracker.getExtractCount();
+        lastSwaps = heapTracker.getSwapCount();
+        lastArrayAccesses = heapTracker.getArrayAccesses();
+        lastComparisons = heapTracker.getComparisonCount();
+        recorded = true;
+    }
+
+    @Benchmark
+    public int buildByRepeatedInsert() {
+        heap.clear();
+        for (int val : data) {
+            heap.insert(val);
+        }
+        return heap.size();
+    }
+
+    @Benchmark
+    public int buildByHeapify() {
+        heap.clear();
+        heap.addAll(data);
+        return heap.size();
     }
 
     @TearDown(Level.Trial)
-    public void exportCsvAfterIteration() {
+    public void exportCsvAfterTrial() {
+        if (!recorded) return;
         boolean writeHeader = !new java.io.File(outputFile).exists();
         try (PrintWriter pw = new PrintWriter(new FileWriter(outputFile, true))) {
             if (writeHeader) {
-                pw.println("n,distribution,time_ms,inserts,extracts,swaps,arrayAccesses,comparisons");
+                pw.println("n,distribution,trackingMode,arity,time_ms,inserts,extracts,swaps,arrayAccesses,comparisons");
             }
-            String line = String.format("%d,%s,%.3f,%d,%d,%d,%d,%d",
+            String line = String.format("%d,%s,%s,%d,%.3f,%d,%d,%d,%d,%d",
                     n,
                     distribution,
+                    trackingMode,
+                    arity,
                     lastElapsed,
                     lastInserts,
                     lastExtracts,
@@ -0,0 +1,126 @@
+package com.cli;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.LockedMinHeap;
+import com.algorithms.MultiQueue;
+import com.metrics.NoOpTracker;
+import com.metrics.PerformanceTracker;
+import com.metrics.Tracker;
+
+// Throughput vs threads for the relaxed MultiQueue against the strict global-lock heap.
+// The MultiQueue reports its sampled rank-error distribution at the end of each iteration.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class MultiQueueBenchmark {
+
+    @Param({"multiqueue", "locked"})
+    public String impl;
+
+    // c in c * P shards; P is the largest @Threads value below
+    @Param({"2", "4"})
+    public int shardsPerThread;
+
+    @Param({"10000"})
+    public int prefill;
+
+    private MultiQueue multiQueue;
+    private LockedMinHeap locked;
+    private PerformanceTracker rankTracker;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        if (impl.equals("multiqueue")) {
+            // only rank errors are recorded (sampled), so the shared tracker adds little contention
+            rankTracker = new PerformanceTracker();
+            multiQueue = new MultiQueue(16 * shardsPerThread, new RankOnlyTracker(rankTracker));
+            locked = null;
+            for (int i = 0; i < prefill; i++) multiQueue.insert(rnd.nextInt());
+        } else {
+            locked = new LockedMinHeap(NoOpTracker.INSTANCE);
+            multiQueue = null;
+            for (int i = 0; i < prefill; i++) locked.insert(rnd.nextInt());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRankError() {
+        if (multiQueue == null) return;
+        System.out.printf("%nrankError: samples=%d, mean=%.2f, max=%d%n",
+                rankTracker.getRankErrorSamples(),
+                rankTracker.getMeanRankError(),
+                rankTracker.getMaxRankError());
+    }
+
+    private Integer insertThenExtract() {
+        int value = ThreadLocalRandom.current().nextInt();
+        if (multiQueue != null) {
+            multiQueue.insert(value);
+            return multiQueue.tryExtractMin();
+        }
+        locked.insert(value);
+        return locked.tryExtractMin();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads1() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(2)
+    public Integer threads2() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads4() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(8)
+    public Integer threads8() { return insertThenExtract(); }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16() { return insertThenExtract(); }
+
+    // records sampled rank errors only, so a shared tracker adds little contention
+    static final class RankOnlyTracker implements Tracker {
+        private final PerformanceTracker sink;
+
+        RankOnlyTracker(PerformanceTracker sink) { this.sink = sink; }
+
+        @Override public void recordRankError(long error) { sink.recordRankError(error); }
+
+        @Override public void incrementInsert() {}
+        @Override public void incrementExtract() {}
+        @Override public void incrementSwap() {}
+        @Override public void incrementArrayAccesses(long delta) {}
+        @Override public void incrementComparisons() {}
+        @Override public long getInsertCount() { return 0; }
+        @Override public long getExtractCount() { return 0; }
+        @Override public long getSwapCount() { return 0; }
+        @Override public long getArrayAccesses() { return 0; }
+        @Override public long getComparisonCount() { return 0; }
+        @Override public void reset() { sink.reset(); }
+    }
+}
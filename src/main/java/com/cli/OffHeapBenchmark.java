@@ -0,0 +1,74 @@
+package com.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.MinHeap;
+import com.algorithms.OffHeapMinHeap;
+import com.metrics.NoOpTracker;
+
+// n inserts followed by n/2 extracts on the Java-heap int[] backend vs the memory-mapped backend.
+// At 10^8 the on-heap run needs -Xmx of at least 1g (400 MB of ints plus growth copies).
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class OffHeapBenchmark {
+
+    @Param({"1000000", "100000000"})
+    public int n;
+
+    @Param({"onheap", "offheap"})
+    public String backend;
+
+    private int[] data;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Random rnd = new Random(42);
+        data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = rnd.nextInt();
+        file = Files.createTempFile("minheap-offheap", ".bin");
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long insertAndExtractHalf() throws IOException {
+        long sum = 0;
+        if (backend.equals("onheap")) {
+            MinHeap heap = new MinHeap(NoOpTracker.INSTANCE);
+            for (int v : data) heap.insert(v);
+            for (int i = 0; i < n / 2; i++) sum += heap.extractMin();
+            return sum;
+        }
+        try (OffHeapMinHeap heap = OffHeapMinHeap.create(file, NoOpTracker.INSTANCE)) {
+            for (int v : data) heap.insert(v);
+            for (int i = 0; i < n / 2; i++) sum += heap.extractMin();
+        }
+        return sum;
+    }
+}
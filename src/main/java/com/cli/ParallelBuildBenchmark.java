@@ -0,0 +1,64 @@
+package com.cli;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.MinHeap;
+import com.metrics.NoOpTracker;
+
+// Heap construction from an unordered array on a pool of `parallelism` workers. Speedup for p cores is
+// buildParallel(p=1) / buildParallel(p); p = 1 takes the single-threaded path, so it is the baseline.
+// The heap at 10^8 is 400 MB next to the 400 MB input.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ParallelBuildBenchmark {
+
+    @Param({"10000000", "100000000"})
+    public int n;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"2", "4"})
+    public int arity;
+
+    private int[] data;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(42);
+        data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = rnd.nextInt();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public MinHeap buildParallel() {
+        return MinHeap.fromArrayParallel(data, NoOpTracker.INSTANCE, arity, pool);
+    }
+}
@@ -0,0 +1,86 @@
+package com.cli;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.MinHeap;
+import com.algorithms.RadixHeap;
+import com.metrics.NoOpTracker;
+
+// Monotone workloads, radix heap against the binary heap.
+// holdModel: the classic event-queue "hold" loop at a steady queue size - pop the earliest event, schedule
+// one at now + [0, spread). Small spreads keep most keys within a few bits of the clock, which is where the
+// radix heap's O(1) insert and cheap bucket-0 pops pay off; large spreads push keys into the high buckets.
+// DijkstraBenchmark runs the same comparison on graph search with long keys.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class RadixHeapBenchmark {
+    private static final int HOLD_OPS = 1 << 20;
+
+    @Param({"1000", "100000", "1000000"})
+    public int queueSize;
+
+    @Param({"16", "1024", "1048576"})
+    public int spread;
+
+    private int[] initial;
+    private int[] delays;
+    private MinHeap binary;
+    private RadixHeap radix;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(42);
+        initial = new int[queueSize];
+        for (int i = 0; i < queueSize; i++) initial[i] = rnd.nextInt(spread);
+        delays = new int[HOLD_OPS];
+        for (int i = 0; i < HOLD_OPS; i++) delays[i] = rnd.nextInt(spread);
+        binary = new MinHeap(NoOpTracker.INSTANCE, 2);
+        radix = new RadixHeap(NoOpTracker.INSTANCE, 0);
+    }
+
+    // In steady state each pop advances the clock by about spread / (2 * queueSize), so the largest
+    // parameters end near 2^29 and the int keys never wrap.
+    @Benchmark
+    public long holdModelBinary() {
+        binary.clear();
+        binary.addAll(initial);
+        long sum = 0;
+        for (int d : delays) {
+            int now = binary.extractMin();
+            binary.insert(now + d);
+            sum += now;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long holdModelRadix() {
+        radix.clear();
+        for (int v : initial) radix.insert(v);
+        long sum = 0;
+        for (int d : delays) {
+            int now = radix.extractMin();
+            radix.insert(now + d);
+            sum += now;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,94 @@
+package com.cli;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.DeadlineScheduler;
+import com.algorithms.DeadlineScheduler.Timeout;
+import com.metrics.NoOpTracker;
+
+// RPC-style timeouts: each op schedules one 10 ms - 1 s timeout. The timeout scheduled WINDOW ops earlier is
+// then cancelled with probability cancelRate, as if its request had completed; the others are left to fire.
+// Deadlines are in milliseconds of System.nanoTime. The executor runs with setRemoveOnCancelPolicy(true)
+// and its single worker fires the surviving no-op tasks, which is what the facade's expire() stands in for.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SchedulerBenchmark {
+    private static final int WINDOW = 1 << 16;
+    private static final Runnable NOOP = () -> { };
+
+    @Param({"heap", "wheel", "stpe"})
+    public String impl;
+
+    @Param({"0.9", "0.99"})
+    public double cancelRate;
+
+    private DeadlineScheduler<Runnable> scheduler;
+    private ScheduledThreadPoolExecutor executor;
+    private Timeout<?>[] timeouts;
+    private ScheduledFuture<?>[] futures;
+    private Random rnd;
+    private int cursor;
+    private long fired;
+
+    @Setup
+    public void setup() {
+        rnd = new Random(42);
+        timeouts = new Timeout<?>[WINDOW];
+        futures = new ScheduledFuture<?>[WINDOW];
+        long now = nowMillis();
+        if (impl.equals("stpe")) {
+            executor = new ScheduledThreadPoolExecutor(1);
+            executor.setRemoveOnCancelPolicy(true);
+        } else {
+            // three levels cover 2^18 ms, about 4.4 minutes
+            scheduler = new DeadlineScheduler<>(NoOpTracker.INSTANCE, impl.equals("wheel") ? 3 : 0, now);
+        }
+    }
+
+    @TearDown
+    public void cleanup() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    private static long nowMillis() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long scheduleAndCancel() {
+        int slot = cursor++ & (WINDOW - 1);
+        long delay = 10 + rnd.nextInt(990);
+        boolean cancel = rnd.nextDouble() < cancelRate;
+        if (executor != null) {
+            if (cancel && futures[slot] != null) futures[slot].cancel(false);
+            futures[slot] = executor.schedule(NOOP, delay, TimeUnit.MILLISECONDS);
+            return cursor;
+        }
+        if (cancel && timeouts[slot] != null) scheduler.cancel((Timeout<Runnable>) timeouts[slot]);
+        long now = nowMillis();
+        timeouts[slot] = scheduler.schedule(now + delay, NOOP);
+        if ((cursor & 255) == 0) fired += scheduler.expire(now, Runnable::run);
+        return fired;
+    }
+}
@@ -0,0 +1,123 @@
+package com.cli;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.LockedMinHeap;
+import com.algorithms.ShardedMinHeap;
+import com.cli.MultiQueueBenchmark.RankOnlyTracker;
+import com.metrics.NoOpTracker;
+import com.metrics.PerformanceTracker;
+
+// Ingest workers on one logical queue: each op inserts a random key into the worker's own shard and takes
+// one key back, either from that shard (local, falling back to the tournament when the shard is empty) or
+// through the global tournament. locked is the strict single-heap baseline, whose rank error is 0 by
+// definition. Throughput is the JMH score; the sharded variants print their sampled rank error, i.e. how
+// many smaller keys a strict heap would have returned first, at the end of each iteration.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ShardedHeapBenchmark {
+    // one shard per thread of the largest @Threads value below
+    private static final int SHARDS = 16;
+    // counting the smaller keys walks other shards' heaps, so sample sparsely to keep it out of the score
+    private static final int RANK_SAMPLE_INTERVAL = 1024;
+
+    @Param({"local", "tournament", "locked"})
+    public String impl;
+
+    // 0 disables the background rebalancer; ignored by locked
+    @Param({"0", "1"})
+    public int rebalanceMillis;
+
+    @Param({"10000"})
+    public int prefill;
+
+    private ShardedMinHeap sharded;
+    private LockedMinHeap locked;
+    private PerformanceTracker rankTracker;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Worker {
+        int shard = -1;
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        if (impl.equals("locked")) {
+            locked = new LockedMinHeap(NoOpTracker.INSTANCE);
+            sharded = null;
+            for (int i = 0; i < prefill; i++) locked.insert(rnd.nextInt());
+            return;
+        }
+        rankTracker = new PerformanceTracker();
+        sharded = new ShardedMinHeap(SHARDS, new RankOnlyTracker(rankTracker), RANK_SAMPLE_INTERVAL, 64);
+        locked = null;
+        for (int i = 0; i < prefill; i++) sharded.insert(i % SHARDS, rnd.nextInt());
+        if (rebalanceMillis > 0) sharded.startRebalancing(rebalanceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRankError() {
+        if (sharded == null) return;
+        sharded.close();
+        System.out.printf("%nrankError: samples=%d, mean=%.2f, max=%d%n",
+                rankTracker.getRankErrorSamples(),
+                rankTracker.getMeanRankError(),
+                rankTracker.getMaxRankError());
+    }
+
+    private Integer insertThenExtract(Worker w) {
+        int value = ThreadLocalRandom.current().nextInt();
+        if (sharded == null) {
+            locked.insert(value);
+            return locked.tryExtractMin();
+        }
+        if (w.shard < 0) w.shard = nextShard.getAndIncrement() % SHARDS;
+        sharded.insert(w.shard, value);
+        if (impl.equals("tournament")) return sharded.tryExtractMin();
+        Integer v = sharded.extractLocal(w.shard);
+        return v != null ? v : sharded.tryExtractMin();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads1(Worker w) { return insertThenExtract(w); }
+
+    @Benchmark
+    @Threads(2)
+    public Integer threads2(Worker w) { return insertThenExtract(w); }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads4(Worker w) { return insertThenExtract(w); }
+
+    @Benchmark
+    @Threads(8)
+    public Integer threads8(Worker w) { return insertThenExtract(w); }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16(Worker w) { return insertThenExtract(w); }
+}
@@ -0,0 +1,68 @@
+package com.cli;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.GrowthPolicy;
+import com.algorithms.MinHeap;
+import com.algorithms.SiftMode;
+import com.metrics.NoOpTracker;
+
+// Sift-down child selection on random keys, where the branchy "is this child smaller" test mispredicts
+// about half the time. heapifyAndDrain is Floyd's build followed by n extractMins, both all sift-down.
+// VECTOR needs a jar built with `mvn -Pvector package`; the forked JVM gets the module. A trial whose
+// requested mode falls back (VECTOR at arity 2, or without the vector build) fails in setup rather than
+// reporting BRANCHLESS numbers as VECTOR. On Linux with perf installed, add `-prof perfnorm` for per-op
+// branch-misses and instructions:
+//   java -jar target/assignment2-minheap-1.0-SNAPSHOT.jar SiftBenchmark -prof perfnorm
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SiftBenchmark {
+
+    @Param({"65536", "4194304"})
+    public int n;
+
+    @Param({"2", "4", "8", "16"})
+    public int arity;
+
+    @Param({"BRANCHY", "BRANCHLESS", "VECTOR"})
+    public SiftMode sift;
+
+    private int[] data;
+    private MinHeap heap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = MinHeapBenchmark.generateData(n, "random", new Random(42));
+        heap = new MinHeap(NoOpTracker.INSTANCE, arity, n, GrowthPolicy.DOUBLING, sift);
+        if (heap.getSiftMode() != sift) {
+            throw new IllegalStateException(sift + " falls back to " + heap.getSiftMode() + " at arity " + arity);
+        }
+    }
+
+    @Benchmark
+    public long heapifyAndDrain() {
+        heap.clear();
+        heap.addAll(data);
+        long sum = 0;
+        while (!heap.isEmpty()) sum += heap.extractMin();
+        return sum;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.GrowthPolicy;
+import com.algorithms.HeapSnapshot;
+import com.algorithms.MinHeap;
+import com.metrics.NoOpTracker;
+
+// Reload from a snapshot (warm page cache after the first read) against rebuilding by repeated insert.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class SnapshotBenchmark {
+
+    @Param({"1000000", "100000000"})
+    public int n;
+
+    private int[] data;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Random rnd = new Random(42);
+        data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = rnd.nextInt();
+        file = Files.createTempFile("minheap", ".snap");
+        HeapSnapshot.write(MinHeap.fromArray(data, NoOpTracker.INSTANCE), file);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public MinHeap reload() throws IOException {
+        return HeapSnapshot.read(file, NoOpTracker.INSTANCE);
+    }
+
+    @Benchmark
+    public MinHeap reloadValidated() throws IOException {
+        return HeapSnapshot.read(file, NoOpTracker.INSTANCE, true);
+    }
+
+    @Benchmark
+    public MinHeap rebuildByInsert() {
+        MinHeap heap = new MinHeap(NoOpTracker.INSTANCE, 2, n, GrowthPolicy.DOUBLING);
+        for (int v : data) heap.insert(v);
+        return heap;
+    }
+}
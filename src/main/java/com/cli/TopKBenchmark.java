@@ -0,0 +1,88 @@
+package com.cli;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.algorithms.GrowthPolicy;
+import com.algorithms.MinHeap;
+import com.algorithms.TopKSelector;
+import com.metrics.NoOpTracker;
+
+// K largest of an n-element stream, K << n: the bounded selector, the insert + extractMin wrapper it
+// replaces, and the usual PriorityQueue<Integer> idiom (peek, then poll + offer).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class TopKBenchmark {
+
+    @Param({"1000000"})
+    public int n;
+
+    @Param({"10", "100", "1000"})
+    public int k;
+
+    @Param({"random", "ascending"})
+    public String distribution;
+
+    private int[] stream;
+    private TopKSelector selector;
+    private MinHeap heap;
+    private int[] result;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        stream = new int[n];
+        for (int i = 0; i < n; i++) stream[i] = distribution.equals("ascending") ? i : rnd.nextInt();
+        selector = new TopKSelector(k, NoOpTracker.INSTANCE);
+        heap = new MinHeap(NoOpTracker.INSTANCE, k + 1, GrowthPolicy.DOUBLING);
+        result = new int[k];
+    }
+
+    @Benchmark
+    public int selector() {
+        selector.clear();
+        selector.offerAll(stream, 0, n);
+        return selector.sortedInto(result);
+    }
+
+    @Benchmark
+    public int minHeapInsertExtract() {
+        heap.clear();
+        for (int v : stream) {
+            heap.insert(v);
+            if (heap.size() > k) heap.extractMin();
+        }
+        return heap.peek();
+    }
+
+    @Benchmark
+    public int priorityQueue() {
+        PriorityQueue<Integer> pq = new PriorityQueue<>(k);
+        for (int v : stream) {
+            if (pq.size() < k) {
+                pq.offer(v);
+            } else if (v > pq.peek()) {
+                pq.poll();
+                pq.offer(v);
+            }
+        }
+        return pq.peek();
+    }
+}
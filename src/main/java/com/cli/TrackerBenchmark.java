@@ -0,0 +1,65 @@
+package com.cli;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.metrics.Tracker;
+import com.metrics.TrackingMode;
+
+// Overhead of one shared tracker under contention. Each op is what a single sift level records.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class TrackerBenchmark {
+
+    @Param({"ATOMIC", "STRIPED", "OFF"})
+    public TrackingMode trackingMode;
+
+    private Tracker tracker;
+
+    @Setup
+    public void setup() {
+        tracker = trackingMode.create();
+    }
+
+    private void siftStep() {
+        tracker.incrementArrayAccesses(2);
+        tracker.incrementComparisons();
+        tracker.incrementSwap();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads1() { siftStep(); }
+
+    @Benchmark
+    @Threads(2)
+    public void threads2() { siftStep(); }
+
+    @Benchmark
+    @Threads(4)
+    public void threads4() { siftStep(); }
+
+    @Benchmark
+    @Threads(8)
+    public void threads8() { siftStep(); }
+
+    @Benchmark
+    @Threads(16)
+    public void threads16() { siftStep(); }
+}
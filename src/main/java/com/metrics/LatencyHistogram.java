@@ -0,0 +1,77 @@
+package com.metrics;
+
+import java.util.Arrays;
+
+// Log-linear histogram in the style of HdrHistogram: values below 128 ns get exact buckets, larger values
+// keep their top 7 significant bits (relative error at most 1/64, about 1.6%). Values are clamped at 2^36 ns
+// (~68 s), so the whole histogram is a fixed 2048-slot array and record() never allocates. Not thread-safe:
+// give each thread its own histogram and merge them afterwards, as PerformanceTracker does.
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 7;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int HALF_SUB_COUNT = SUB_COUNT >> 1;
+    private static final int MAX_BITS = 36;
+    private static final long MAX_TRACKABLE = (1L << MAX_BITS) - 1;
+    private static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) * HALF_SUB_COUNT + SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long max;
+    private long min = Long.MAX_VALUE;
+
+    public void record(long nanos) {
+        long v = nanos < 0 ? 0 : Math.min(nanos, MAX_TRACKABLE);
+        counts[indexOf(v)]++;
+        totalCount++;
+        if (v > max) max = v;
+        if (v < min) min = v;
+    }
+
+    private static int indexOf(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int shift = (63 - Long.numberOfLeadingZeros(v)) - (SUB_BITS - 1);
+        return shift * HALF_SUB_COUNT + (int) (v >>> shift);
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < SUB_COUNT) return index;
+        int shift = index / HALF_SUB_COUNT - 1;
+        long mantissa = index - (long) shift * HALF_SUB_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    // highest value equivalent to the requested percentile (0..100), capped at the recorded max
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be in [0, 100]");
+        if (totalCount == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestValueIn(i), max);
+        }
+        return max;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) counts[i] += other.counts[i];
+        totalCount += other.totalCount;
+        max = Math.max(max, other.max);
+        min = Math.min(min, other.min);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+        min = Long.MAX_VALUE;
+    }
+
+    public long getCount() { return totalCount; }
+    public long getMax() { return max; }
+    public long getMin() { return totalCount == 0 ? 0 : min; }
+    public long getP50() { return percentile(50.0); }
+    public long getP90() { return percentile(90.0); }
+    public long getP99() { return percentile(99.0); }
+    public long getP999() { return percentile(99.9); }
+}
@@ -0,0 +1,31 @@
+package com.metrics;
+
+// Plain long counters: no CAS, no fences. Only safe when a single thread owns the tracker.
+public final class LocalTracker implements Tracker {
+    private long insertCount;
+    private long extractCount;
+    private long swapCount;
+    private long arrayAccesses;
+    private long comparisonCount;
+
+    @Override public void incrementInsert() { insertCount++; }
+    @Override public void incrementExtract() { extractCount++; }
+    @Override public void incrementSwap() { swapCount++; }
+    @Override public void incrementArrayAccesses(long delta) { arrayAccesses += delta; }
+    @Override public void incrementComparisons() { comparisonCount++; }
+
+    @Override public long getInsertCount() { return insertCount; }
+    @Override public long getExtractCount() { return extractCount; }
+    @Override public long getSwapCount() { return swapCount; }
+    @Override public long getArrayAccesses() { return arrayAccesses; }
+    @Override public long getComparisonCount() { return comparisonCount; }
+
+    @Override
+    public void reset() {
+        insertCount = 0;
+        extractCount = 0;
+        swapCount = 0;
+        arrayAccesses = 0;
+        comparisonCount = 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.metrics;
+
+// Every method is empty, so once the call site is monomorphic the JIT inlines it away entirely.
+public final class NoOpTracker implements Tracker {
+    public static final NoOpTracker INSTANCE = new NoOpTracker();
+
+    private NoOpTracker() {}
+
+    @Override public void incrementInsert() {}
+    @Override public void incrementExtract() {}
+    @Override public void incrementSwap() {}
+    @Override public void incrementArrayAccesses(long delta) {}
+    @Override public void incrementComparisons() {}
+
+    @Override public long getInsertCount() { return 0; }
+    @Override public long getExtractCount() { return 0; }
+    @Override public long getSwapCount() { return 0; }
+    @Override public long getArrayAccesses() { return 0; }
+    @Override public long getComparisonCount() { return 0; }
+
+    @Override public void reset() {}
+}
@@ -0,0 +1,9 @@
+package com.metrics;
+
+public enum Operation {
+    INSERT,
+    EXTRACT_MIN,
+    DECREASE_KEY,
+    MERGE,
+    FSYNC
+}
@@ -4,15 +4,34 @@ package com.metrics;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
-public class PerformanceTracker {
+public class PerformanceTracker implements Tracker {
     private final AtomicLong insertCount = new AtomicLong(0);
     private final AtomicLong extractCount = new AtomicLong(0);
     private final AtomicLong swapCount = new AtomicLong(0);
     private final AtomicLong arrayAccesses = new AtomicLong(0);
     private final AtomicLong comparisonCount = new AtomicLong(0);
 
+    // bucket 0 counts exact extracts, bucket b counts rank errors in [2^(b-1), 2^b)
+    private static final int RANK_BUCKETS = 64;
+    private final AtomicLong rankErrorSamples = new AtomicLong(0);
+    private final AtomicLong rankErrorSum = new AtomicLong(0);
+    private final AtomicLong rankErrorMax = new AtomicLong(0);
+    private final AtomicLongArray rankErrorBuckets = new AtomicLongArray(RANK_BUCKETS);
+
+
+    private final AtomicLong logRecords = new AtomicLong(0);
+    private final AtomicLong logBytes = new AtomicLong(0);
+
+    // null until enableLatencyRecording(). Every recording thread gets its own histogram per Operation, so
+    // a tracker shared by MultiQueue, ShardedMinHeap or a parallel build records without contention; reads
+    // merge all of them and are exact once the recording threads have stopped.
+    private volatile ThreadLocal<LatencyHistogram[]> latencies;
+    private final Queue<LatencyHistogram[]> allLatencies = new ConcurrentLinkedQueue<>();
 
     private long startTimeNs = 0;
     private long endTimeNs = 0;
@@ -29,12 +48,80 @@ public class PerformanceTracker {
     public void incrementArrayAccesses(long delta) { arrayAccesses.addAndGet(delta); }
     public void incrementComparisons(){comparisonCount.incrementAndGet();}
 
+    @Override
+    public void recordRankError(long error) {
+        rankErrorSamples.incrementAndGet();
+        rankErrorSum.addAndGet(error);
+        rankErrorMax.accumulateAndGet(error, Math::max);
+        rankErrorBuckets.incrementAndGet(64 - Long.numberOfLeadingZeros(error));
+    }
+
     public long getInsertCount() { return insertCount.get(); }
     public long getExtractCount() { return extractCount.get(); }
     public long getSwapCount() { return swapCount.get(); }
     public long getArrayAccesses() { return arrayAccesses.get(); }
     public long getComparisonCount() { return comparisonCount.get(); }
 
+    @Override
+    public void recordLogWrite(long records, long bytes) {
+        logRecords.addAndGet(records);
+        logBytes.addAndGet(bytes);
+    }
+
+    public long getLogRecords() { return logRecords.get(); }
+    public long getLogBytes() { return logBytes.get(); }
+
+    public synchronized void enableLatencyRecording() {
+        if (latencies != null) return;
+        latencies = ThreadLocal.withInitial(() -> {
+            LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+            for (int i = 0; i < histograms.length; i++) histograms[i] = new LatencyHistogram();
+            allLatencies.add(histograms);
+            return histograms;
+        });
+    }
+
+    @Override
+    public boolean isLatencyEnabled() { return latencies != null; }
+
+    @Override
+    public void recordLatency(Operation op, long nanos) {
+        ThreadLocal<LatencyHistogram[]> local = latencies;
+        if (local != null) local.get()[op.ordinal()].record(nanos);
+    }
+
+    // a merged copy of every thread's histogram for op
+    public LatencyHistogram getLatencyHistogram(Operation op) {
+        if (latencies == null) return null;
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram[] histograms : allLatencies) merged.merge(histograms[op.ordinal()]);
+        return merged;
+    }
+
+    // folds another tracker's latencies into the calling thread's histograms
+    public void mergeLatencies(PerformanceTracker other) {
+        if (other.latencies == null) return;
+        enableLatencyRecording();
+        LatencyHistogram[] local = latencies.get();
+        for (Operation op : Operation.values()) {
+            local[op.ordinal()].merge(other.getLatencyHistogram(op));
+        }
+    }
+
+    public long getRankErrorSamples() { return rankErrorSamples.get(); }
+    public long getMaxRankError() { return rankErrorMax.get(); }
+
+    public double getMeanRankError() {
+        long samples = rankErrorSamples.get();
+        return samples == 0 ? 0.0 : (double) rankErrorSum.get() / samples;
+    }
+
+    public long[] getRankErrorHistogram() {
+        long[] buckets = new long[RANK_BUCKETS];
+        for (int i = 0; i < RANK_BUCKETS; i++) buckets[i] = rankErrorBuckets.get(i);
+        return buckets;
+    }
+
     public double getElapsedMillis() {
         if (startTimeNs == 0) return 0.0;
         long end = (endTimeNs == 0) ? System.nanoTime() : endTimeNs;
@@ -62,23 +149,80 @@ public class PerformanceTracker {
         }
     }
 
+    public void exportLatencyCsv(String filePath, int n, String distribution) throws IOException {
+        if (latencies == null) throw new IllegalStateException("Latency recording is not enabled");
+        boolean writeHeader = !new java.io.File(filePath).exists();
+        try (PrintWriter pw = new PrintWriter(new FileWriter(filePath, true))) {
+            if (writeHeader) {
+                pw.println("n,distribution,operation,count,p50_ns,p90_ns,p99_ns,p999_ns,max_ns");
+            }
+            for (Operation op : Operation.values()) {
+                LatencyHistogram h = getLatencyHistogram(op);
+                if (h.getCount() == 0) continue;
+                pw.println(String.format("%d,%s,%s,%d,%d,%d,%d,%d,%d",
+                        n,
+                        distribution,
+                        op,
+                        h.getCount(),
+                        h.getP50(),
+                        h.getP90(),
+                        h.getP99(),
+                        h.getP999(),
+                        h.getMax()
+                ));
+            }
+        }
+    }
+
     public void reset() {
         insertCount.set(0);
         extractCount.set(0);
         swapCount.set(0);
         arrayAccesses.set(0);
         comparisonCount.set(0);
+        logRecords.set(0);
+        logBytes.set(0);
+        rankErrorSamples.set(0);
+        rankErrorSum.set(0);
+        rankErrorMax.set(0);
+        for (int i = 0; i < RANK_BUCKETS; i++) rankErrorBuckets.set(i, 0);
+        for (LatencyHistogram[] histograms : allLatencies) {
+            for (LatencyHistogram h : histograms) h.reset();
+        }
         startTimeNs = 0;
         endTimeNs = 0;
     }
 
     public void printToStdout() {
-        System.out.printf("time=%.3fms, inserts=%d, extracts=%d, swaps=%d, accesses=%d%n",
+        System.out.printf("time=%.3fms, inserts=%d, extracts=%d, swaps=%d, accesses=%d, comparisons=%d%n",
                 getElapsedMillis(),
                 getInsertCount(),
                 getExtractCount(),
                 getSwapCount(),
                 getArrayAccesses(),
                 getComparisonCount());
+        if (getRankErrorSamples() > 0) {
+            System.out.printf("rankError: samples=%d, mean=%.2f, max=%d%n",
+                    getRankErrorSamples(),
+                    getMeanRankError(),
+                    getMaxRankError());
+        }
+        if (getLogRecords() > 0) {
+            System.out.printf("log: records=%d, bytes=%d%n", getLogRecords(), getLogBytes());
+        }
+        if (latencies != null) {
+            for (Operation op : Operation.values()) {
+                LatencyHistogram h = getLatencyHistogram(op);
+                if (h.getCount() == 0) continue;
+                System.out.printf("%s latency: count=%d, p50=%dns, p90=%dns, p99=%dns, p999=%dns, max=%dns%n",
+                        op,
+                        h.getCount(),
+                        h.getP50(),
+                        h.getP90(),
+                        h.getP99(),
+                        h.getP999(),
+                        h.getMax());
+            }
+        }
     }
 }
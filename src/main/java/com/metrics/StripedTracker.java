@@ -0,0 +1,57 @@
+package com.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Tracker for many threads sharing one instance. LongAdder spreads updates over padded per-thread cells,
+// so counting threads stop bouncing the same cache lines the way PerformanceTracker's adjacent AtomicLongs do.
+public final class StripedTracker implements Tracker {
+    private final LongAdder insertCount = new LongAdder();
+    private final LongAdder extractCount = new LongAdder();
+    private final LongAdder swapCount = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder comparisonCount = new LongAdder();
+
+    private final LongAdder rankErrorSamples = new LongAdder();
+    private final LongAdder rankErrorSum = new LongAdder();
+    private final LongAccumulator rankErrorMax = new LongAccumulator(Math::max, 0);
+
+    @Override public void incrementInsert() { insertCount.increment(); }
+    @Override public void incrementExtract() { extractCount.increment(); }
+    @Override public void incrementSwap() { swapCount.increment(); }
+    @Override public void incrementArrayAccesses(long delta) { arrayAccesses.add(delta); }
+    @Override public void incrementComparisons() { comparisonCount.increment(); }
+
+    @Override
+    public void recordRankError(long error) {
+        rankErrorSamples.increment();
+        rankErrorSum.add(error);
+        rankErrorMax.accumulate(error);
+    }
+
+    @Override public long getInsertCount() { return insertCount.sum(); }
+    @Override public long getExtractCount() { return extractCount.sum(); }
+    @Override public long getSwapCount() { return swapCount.sum(); }
+    @Override public long getArrayAccesses() { return arrayAccesses.sum(); }
+    @Override public long getComparisonCount() { return comparisonCount.sum(); }
+
+    public long getRankErrorSamples() { return rankErrorSamples.sum(); }
+    public long getMaxRankError() { return rankErrorMax.get(); }
+
+    public double getMeanRankError() {
+        long samples = rankErrorSamples.sum();
+        return samples == 0 ? 0.0 : (double) rankErrorSum.sum() / samples;
+    }
+
+    @Override
+    public void reset() {
+        insertCount.reset();
+        extractCount.reset();
+        swapCount.reset();
+        arrayAccesses.reset();
+        comparisonCount.reset();
+        rankErrorSamples.reset();
+        rankErrorSum.reset();
+        rankErrorMax.reset();
+    }
+}
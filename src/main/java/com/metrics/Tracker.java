@@ -0,0 +1,45 @@
+package com.metrics;
+
+public interface Tracker {
+    void incrementInsert();
+    void incrementExtract();
+    void incrementSwap();
+    void incrementArrayAccesses(long delta);
+    void incrementComparisons();
+
+    long getInsertCount();
+    long getExtractCount();
+    long getSwapCount();
+    long getArrayAccesses();
+    long getComparisonCount();
+
+    void reset();
+
+    // The counters only grow, so two identical consecutive reads prove nothing changed in between and the
+    // values belong to one instant. Under constant updates this gives up after a few rounds and returns the
+    // last read, whose counters may then come from slightly different instants.
+    default TrackerSnapshot snapshot() {
+        TrackerSnapshot previous = read();
+        for (int i = 0; i < 8; i++) {
+            TrackerSnapshot current = read();
+            if (current.equals(previous)) return current;
+            previous = current;
+        }
+        return previous;
+    }
+
+    private TrackerSnapshot read() {
+        return new TrackerSnapshot(getInsertCount(), getExtractCount(), getSwapCount(), getArrayAccesses(), getComparisonCount());
+    }
+
+    // callers time an operation only when this is true, so disabled trackers never read the clock
+    default boolean isLatencyEnabled() { return false; }
+
+    default void recordLatency(Operation op, long nanos) {}
+
+    // write-ahead logs report records and bytes as they hand them to the OS
+    default void recordLogWrite(long records, long bytes) {}
+
+    // relaxed queues report how many smaller elements were passed over by an extract
+    default void recordRankError(long error) {}
+}
@@ -0,0 +1,49 @@
+package com.metrics;
+
+// Immutable copy of a tracker's counters taken at one point in time.
+public final class TrackerSnapshot {
+    private final long insertCount;
+    private final long extractCount;
+    private final long swapCount;
+    private final long arrayAccesses;
+    private final long comparisonCount;
+
+    public TrackerSnapshot(long insertCount, long extractCount, long swapCount, long arrayAccesses, long comparisonCount) {
+        this.insertCount = insertCount;
+        this.extractCount = extractCount;
+        this.swapCount = swapCount;
+        this.arrayAccesses = arrayAccesses;
+        this.comparisonCount = comparisonCount;
+    }
+
+    public long getInsertCount() { return insertCount; }
+    public long getExtractCount() { return extractCount; }
+    public long getSwapCount() { return swapCount; }
+    public long getArrayAccesses() { return arrayAccesses; }
+    public long getComparisonCount() { return comparisonCount; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TrackerSnapshot)) return false;
+        TrackerSnapshot s = (TrackerSnapshot) o;
+        return insertCount == s.insertCount && extractCount == s.extractCount && swapCount == s.swapCount
+                && arrayAccesses == s.arrayAccesses && comparisonCount == s.comparisonCount;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = insertCount;
+        h = 31 * h + extractCount;
+        h = 31 * h + swapCount;
+        h = 31 * h + arrayAccesses;
+        h = 31 * h + comparisonCount;
+        return Long.hashCode(h);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("inserts=%d, extracts=%d, swaps=%d, accesses=%d, comparisons=%d",
+                insertCount, extractCount, swapCount, arrayAccesses, comparisonCount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.metrics;
+
+public enum TrackingMode {
+    OFF,
+    LOCAL,
+    ATOMIC,
+    STRIPED;
+
+    public Tracker create() {
+        switch (this) {
+            case OFF:
+                return NoOpTracker.INSTANCE;
+            case LOCAL:
+                return new LocalTracker();
+            case STRIPED:
+                return new StripedTracker();
+            case ATOMIC:
+            default:
+                return new PerformanceTracker();
+        }
+    }
+}
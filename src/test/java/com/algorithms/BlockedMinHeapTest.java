@@ -0,0 +1,64 @@
+package com.algorithms;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.PerformanceTracker;
+
+public class BlockedMinHeapTest {
+
+    @Test
+    public void testRandomOperationsMatchPriorityQueue() {
+        // small blocks so most sifts cross block boundaries
+        for (int blockBits : new int[] {2, 3, 10}) {
+            Random rnd = new Random(71 + blockBits);
+            BlockedMinHeap heap = new BlockedMinHeap(new PerformanceTracker(), blockBits);
+            PriorityQueue<Integer> reference = new PriorityQueue<>();
+            for (int step = 0; step < 30_000; step++) {
+                if (reference.isEmpty() || rnd.nextInt(5) < 3) {
+                    int v = rnd.nextInt(100_000);
+                    heap.insert(v);
+                    reference.add(v);
+                } else {
+                    assertEquals((int) reference.peek(), heap.peek());
+                    assertEquals((int) reference.poll(), heap.extractMin());
+                }
+                assertEquals(reference.size(), heap.size());
+            }
+            assertTrue(heap.isHeapOrdered());
+            while (!reference.isEmpty()) assertEquals((int) reference.poll(), heap.extractMin());
+            assertThrows(IllegalStateException.class, heap::extractMin);
+        }
+    }
+
+    @Test
+    public void testAddAllAndDecreaseKey() {
+        Random rnd = new Random(73);
+        int[] data = new int[20_000];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt();
+        BlockedMinHeap heap = new BlockedMinHeap(new PerformanceTracker(), 3);
+        heap.addAll(data);
+        assertEquals(data.length, heap.size());
+        assertTrue(heap.isHeapOrdered());
+        assertTrue(heap.capacity() >= data.length);
+
+        int index = data.length - 1;
+        heap.decreaseKey(index, Integer.MIN_VALUE);
+        assertTrue(heap.isHeapOrdered());
+        assertEquals(Integer.MIN_VALUE, heap.peek());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(data.length, 0));
+
+        int prev = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int v = heap.extractMin();
+            assertTrue(v >= prev);
+            prev = v;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.metrics.PerformanceTracker;
+import com.metrics.Tracker;
+
+public class BlockingMinHeapTest {
+
+    static Stream<Arguments> implementations() {
+        return Stream.of(
+                Arguments.of("LockedMinHeap", (Function<Tracker, BlockingMinHeap>) LockedMinHeap::new),
+                Arguments.of("FineGrainedMinHeap", (Function<Tracker, BlockingMinHeap>) t -> new FineGrainedMinHeap(1 << 16, t)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    public void testEmptyQueue(String name, Function<Tracker, BlockingMinHeap> factory) throws InterruptedException {
+        BlockingMinHeap heap = factory.apply(new PerformanceTracker());
+        assertNull(heap.tryExtractMin());
+        assertNull(heap.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    public void testSequentialOrder(String name, Function<Tracker, BlockingMinHeap> factory) throws InterruptedException {
+        BlockingMinHeap heap = factory.apply(new PerformanceTracker());
+        for (int v : new int[] {7, 3, 9, 1, 3, 8}) heap.insert(v);
+        List<Integer> result = new ArrayList<>();
+        result.add(heap.take());
+        result.add(heap.poll(1, TimeUnit.SECONDS));
+        Integer next;
+        while ((next = heap.tryExtractMin()) != null) result.add(next);
+        assertEquals(List.of(1, 3, 3, 7, 8, 9), result);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    public void testConcurrentProducersAndConsumers(String name, Function<Tracker, BlockingMinHeap> factory) throws InterruptedException {
+        PerformanceTracker tracker = new PerformanceTracker();
+        BlockingMinHeap heap = factory.apply(tracker);
+        int producers = 4, consumers = 4, perProducer = 5000;
+        ConcurrentLinkedQueue<Integer> taken = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(producers + consumers);
+
+        for (int p = 0; p < producers; p++) {
+            int offset = p;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) heap.insert(i * producers + offset);
+                done.countDown();
+            }).start();
+        }
+        for (int c = 0; c < consumers; c++) {
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) taken.add(heap.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await(30, TimeUnit.SECONDS);
+
+        int total = producers * perProducer;
+        int[] seen = new int[total];
+        for (int v : taken) seen[v]++;
+        int[] once = new int[total];
+        Arrays.fill(once, 1);
+        assertArrayEquals(once, seen);
+        assertNull(heap.tryExtractMin());
+        assertEquals(total, tracker.getInsertCount());
+        assertEquals(total, tracker.getExtractCount());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    public void testConcurrentInsertsThenOrderedDrain(String name, Function<Tracker, BlockingMinHeap> factory) throws InterruptedException {
+        BlockingMinHeap heap = factory.apply(new PerformanceTracker());
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) heap.insert(i * 4 + offset);
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+
+        for (int expected = 0; expected < 8000; expected++) assertEquals(expected, heap.take());
+    }
+}
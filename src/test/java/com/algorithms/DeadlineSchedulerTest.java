@@ -0,0 +1,120 @@
+package com.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.algorithms.DeadlineScheduler.Timeout;
+import com.metrics.PerformanceTracker;
+
+public class DeadlineSchedulerTest {
+
+    // schedules and cancels at random while the clock moves forward, checking every firing
+    private static void runRandomTrace(DeadlineScheduler<Long> scheduler, long maxDelay, long seed) {
+        Random rnd = new Random(seed);
+        List<Timeout<Long>> pending = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+        long now = scheduler.wheelTime();
+        long expected = 0;
+        for (int step = 0; step < 20_000; step++) {
+            long deadline = now + 1 + (long) (rnd.nextDouble() * maxDelay);
+            pending.add(scheduler.schedule(deadline, deadline));
+            if (rnd.nextInt(10) != 0) {
+                Timeout<Long> victim = pending.get(rnd.nextInt(pending.size()));
+                boolean wasPending = victim.isPending();
+                assertEquals(wasPending, scheduler.cancel(victim));
+            }
+            if (rnd.nextInt(8) == 0) {
+                now += rnd.nextInt(40);
+                long before = fired.size();
+                final long limit = now;
+                scheduler.expire(now, d -> {
+                    assertTrue(d <= limit);
+                    fired.add(d);
+                });
+                for (int i = (int) before + 1; i < fired.size(); i++) assertTrue(fired.get(i - 1) <= fired.get(i));
+            }
+        }
+        now += maxDelay + 1;
+        scheduler.expire(now, fired::add);
+        for (Timeout<Long> t : pending) {
+            if (!t.isCancelled()) expected++;
+            assertFalse(t.isPending());
+        }
+        assertEquals(expected, fired.size());
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testHeapOnlyFiresUncancelledInOrder() {
+        runRandomTrace(new DeadlineScheduler<>(new PerformanceTracker()), 500, 41);
+    }
+
+    @Test
+    public void testTimingWheelFiresUncancelledInOrder() {
+        // two levels cover 4096 ticks; longer delays fall back to the heap
+        runRandomTrace(new DeadlineScheduler<>(new PerformanceTracker(), 2, 1000), 10_000, 43);
+        runRandomTrace(new DeadlineScheduler<>(new PerformanceTracker(), 3, 0), 3000, 47);
+    }
+
+    @Test
+    public void testCompactionBoundsTombstones() {
+        DeadlineScheduler<Integer> scheduler = new DeadlineScheduler<>(new PerformanceTracker());
+        List<Timeout<Integer>> timeouts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) timeouts.add(scheduler.schedule(1000 + i, i));
+        for (int i = 0; i < 9_900; i++) scheduler.cancel(timeouts.get(i));
+
+        assertEquals(100, scheduler.size());
+        assertTrue(scheduler.heapSize() < 400);
+        assertTrue(scheduler.tombstones() < 300);
+        List<Integer> fired = new ArrayList<>();
+        scheduler.expire(Long.MAX_VALUE, fired::add);
+        assertEquals(100, fired.size());
+        assertEquals(9_900, (int) fired.get(0));
+    }
+
+    @Test
+    public void testCallbackCancelsTimeoutDueOnSameTick() {
+        DeadlineScheduler<String> scheduler = new DeadlineScheduler<>(new PerformanceTracker(), 2, 0);
+        List<Timeout<String>> timeouts = new ArrayList<>();
+        timeouts.add(scheduler.schedule(5, "A"));
+        timeouts.add(scheduler.schedule(5, "B"));
+        timeouts.add(scheduler.schedule(5, "C"));
+        assertEquals(3, scheduler.wheelSize());
+
+        List<String> fired = new ArrayList<>();
+        boolean[] cancelled = new boolean[1];
+        scheduler.expire(5, task -> {
+            fired.add(task);
+            if (!task.equals("B")) cancelled[0] |= scheduler.cancel(timeouts.get(1));
+        });
+        assertTrue(cancelled[0]);
+        assertFalse(fired.contains("B"));
+        assertEquals(2, fired.size());
+        assertTrue(timeouts.get(1).isCancelled());
+        assertEquals(0, scheduler.size());
+        assertEquals(0, scheduler.wheelSize());
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testCancelAfterFireAndPastDeadlines() {
+        DeadlineScheduler<String> scheduler = new DeadlineScheduler<>(new PerformanceTracker(), 2, 100);
+        Timeout<String> late = scheduler.schedule(50, "late");
+        Timeout<String> soon = scheduler.schedule(105, "soon");
+        assertEquals(1, scheduler.wheelSize());
+
+        List<String> fired = new ArrayList<>();
+        assertEquals(1, scheduler.expire(100, fired::add));
+        assertEquals(List.of("late"), fired);
+        assertFalse(scheduler.cancel(late));
+        assertTrue(scheduler.cancel(soon));
+        assertEquals(0, scheduler.expire(200, fired::add));
+        assertTrue(scheduler.isEmpty());
+    }
+}
@@ -0,0 +1,192 @@
+package com.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.metrics.Operation;
+import com.metrics.PerformanceTracker;
+
+public class DurableMinHeapTest {
+
+    @TempDir
+    Path dir;
+
+    private DurableMinHeap open(DurabilityMode mode, PerformanceTracker tracker) throws IOException {
+        return DurableMinHeap.recover(dir.resolve("heap.snap"), dir.resolve("heap.log"), tracker, mode);
+    }
+
+    // applies the same random operations to a durable heap and a plain reference heap
+    private static void mutate(DurableMinHeap durable, MinHeap reference, Random rnd, int ops) throws IOException {
+        for (int i = 0; i < ops; i++) {
+            int choice = rnd.nextInt(10);
+            if (choice < 6 || reference.isEmpty()) {
+                int v = rnd.nextInt(1_000_000);
+                durable.insert(v);
+                reference.insert(v);
+            } else if (choice < 8) {
+                assertEquals(reference.extractMin(), durable.extractMin());
+            } else {
+                int index = rnd.nextInt(reference.size());
+                int v = reference.getHeap().get(index) - rnd.nextInt(1000);
+                durable.decreaseKey(index, v);
+                reference.decreaseKey(index, v);
+            }
+        }
+    }
+
+    @Test
+    public void testRecoveryReplaysLog() throws IOException {
+        for (DurabilityMode mode : DurabilityMode.values()) {
+            Files.deleteIfExists(dir.resolve("heap.snap"));
+            Files.deleteIfExists(dir.resolve("heap.log"));
+            MinHeap reference = new MinHeap(new PerformanceTracker());
+            try (DurableMinHeap heap = open(mode, new PerformanceTracker())) {
+                mutate(heap, reference, new Random(7), 5_000);
+            }
+            try (DurableMinHeap recovered = open(mode, new PerformanceTracker())) {
+                assertEquals(reference.getHeap(), recovered.getHeap());
+            }
+        }
+    }
+
+    @Test
+    public void testCheckpointTruncatesLogAndSurvivesRestart() throws IOException {
+        MinHeap reference = new MinHeap(new PerformanceTracker());
+        Random rnd = new Random(11);
+        try (DurableMinHeap heap = open(DurabilityMode.BATCHED, new PerformanceTracker())) {
+            mutate(heap, reference, rnd, 3_000);
+            long before = heap.logLength();
+            heap.checkpoint();
+            assertTrue(heap.logLength() < before);
+            mutate(heap, reference, rnd, 1_000);
+        }
+        try (DurableMinHeap recovered = open(DurabilityMode.BATCHED, new PerformanceTracker())) {
+            assertEquals(reference.getHeap(), recovered.getHeap());
+        }
+    }
+
+    @Test
+    public void testStaleLogIsIgnoredAfterCheckpoint() throws IOException {
+        Path log = dir.resolve("heap.log");
+        try (DurableMinHeap heap = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            heap.insert(5);
+            heap.insert(3);
+        }
+        byte[] staleLog = Files.readAllBytes(log);
+        try (DurableMinHeap heap = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            heap.checkpoint();
+        }
+        // simulate a crash after the snapshot rename but before the log was reset
+        Files.write(log, staleLog);
+        try (DurableMinHeap recovered = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            assertEquals(2, recovered.size());
+            assertEquals(3, recovered.extractMin());
+        }
+    }
+
+    @Test
+    public void testTornTailRecordIsDropped() throws IOException {
+        Path log = dir.resolve("heap.log");
+        try (DurableMinHeap heap = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            heap.insert(10);
+            heap.insert(20);
+        }
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 4);
+        }
+        try (DurableMinHeap recovered = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            assertEquals(1, recovered.size());
+            recovered.insert(7);
+        }
+        try (DurableMinHeap recovered = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            assertEquals(7, recovered.extractMin());
+            assertEquals(10, recovered.extractMin());
+        }
+    }
+
+    @Test
+    public void testCorruptTailRecordIsDropped() throws IOException {
+        Path log = dir.resolve("heap.log");
+        byte[] garbage = new byte[HeapOperationLog.RECORD_BYTES];
+        new Random(13).nextBytes(garbage);
+        garbage[0] = HeapOperationLog.INSERT;
+        for (byte[] tail : new byte[][] {new byte[HeapOperationLog.RECORD_BYTES], garbage}) {
+            Files.deleteIfExists(log);
+            try (DurableMinHeap heap = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+                heap.insert(10);
+                heap.insert(20);
+                heap.insert(30);
+            }
+            // a torn full-length write: the last record's bytes replaced wholesale
+            try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(tail), channel.size() - tail.length);
+            }
+            try (DurableMinHeap recovered = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+                assertEquals(2, recovered.size());
+                recovered.insert(5);
+            }
+            try (DurableMinHeap recovered = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+                assertEquals(3, recovered.size());
+                assertEquals(5, recovered.extractMin());
+                assertEquals(10, recovered.extractMin());
+                assertEquals(20, recovered.extractMin());
+            }
+        }
+    }
+
+    @Test
+    public void testRejectedOperationsAreNotLogged() throws IOException {
+        try (DurableMinHeap heap = open(DurabilityMode.PER_OP, new PerformanceTracker())) {
+            long empty = heap.logLength();
+            assertThrows(IllegalStateException.class, heap::extractMin);
+            heap.insert(1);
+            assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 2));
+            assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(1, 0));
+            assertEquals(empty + HeapOperationLog.RECORD_BYTES, heap.logLength());
+        }
+    }
+
+    @Test
+    public void testLogWritesAreTracked() throws IOException {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.enableLatencyRecording();
+        try (DurableMinHeap heap = open(DurabilityMode.PER_OP, tracker)) {
+            for (int i = 0; i < 100; i++) heap.insert(i);
+        }
+        assertEquals(100, tracker.getLogRecords());
+        assertEquals(100L * HeapOperationLog.RECORD_BYTES, tracker.getLogBytes());
+        assertTrue(tracker.getLatencyHistogram(Operation.FSYNC).getCount() >= 100);
+    }
+
+    @Test
+    public void testQuietBatchedLogSyncsAfterMaxDelay() throws IOException, InterruptedException {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.enableLatencyRecording();
+        Path log = dir.resolve("heap.log");
+        try (DurableMinHeap heap = DurableMinHeap.recover(dir.resolve("heap.snap"), log, tracker,
+                DurabilityMode.BATCHED, 1 << 16, 20, TimeUnit.MILLISECONDS)) {
+            long header = Files.size(log);
+            heap.insert(42);
+            assertEquals(header, Files.size(log));
+            // no further appends: only the background flush can write the record
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (Files.size(log) == header && System.nanoTime() < deadline) Thread.sleep(5);
+            assertEquals(header + HeapOperationLog.RECORD_BYTES, Files.size(log));
+            // logLength() takes the log's lock, so the flush that wrote the record has finished its fsync
+            assertEquals(header + HeapOperationLog.RECORD_BYTES, heap.logLength());
+            assertEquals(1, tracker.getLatencyHistogram(Operation.FSYNC).getCount());
+        }
+    }
+}
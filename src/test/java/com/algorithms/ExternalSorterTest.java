@@ -0,0 +1,92 @@
+package com.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.metrics.PerformanceTracker;
+
+public class ExternalSorterTest {
+
+    @TempDir
+    Path dir;
+
+    private static void writeInts(Path file, int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        Files.write(file, buffer.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        int[] values = new int[buffer.remaining() / 4];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    public void testMultiPassSortMatchesJavaSort() throws IOException {
+        Random rnd = new Random(23);
+        int[] data = new int[50_003];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt();
+        Path input = dir.resolve("in.bin");
+        Path output = dir.resolve("out.bin");
+        writeInts(input, data);
+
+        PerformanceTracker tracker = new PerformanceTracker();
+        ExternalSorter.Result result = new ExternalSorter(1000, 4, 64, 3, tracker).sort(input, output, dir);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(51, result.getRuns());
+        assertEquals(3, result.getMergePasses());
+        assertEquals(4, result.getPasses());
+        assertEquals(data.length * 4L, result.getBytes());
+        assertTrue(tracker.getComparisonCount() > 0);
+        try (var files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void testSingleRunAndEmptyInput() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Path output = dir.resolve("out.bin");
+        writeInts(input, new int[] {3, -7, 3, 0});
+        ExternalSorter sorter = new ExternalSorter(1 << 10, 8, 4096, 1, new PerformanceTracker());
+        ExternalSorter.Result result = sorter.sort(input, output, dir);
+        assertArrayEquals(new int[] {-7, 0, 3, 3}, readInts(output));
+        assertEquals(1, result.getPasses());
+
+        writeInts(input, new int[0]);
+        result = sorter.sort(input, output, dir);
+        assertEquals(0, readInts(output).length);
+        assertEquals(0, result.getPasses());
+    }
+
+    @Test
+    public void testRejectsTruncatedInput() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Files.write(input, new byte[] {1, 2, 3, 4, 5});
+        ExternalSorter sorter = new ExternalSorter(16, 2, 64, 1, new PerformanceTracker());
+        assertThrows(IOException.class, () -> sorter.sort(input, dir.resolve("out.bin"), dir));
+    }
+
+    @Test
+    public void testRejectsRunSizeBeyondIntBytes() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSorter(1 << 29, 2, 64, 1, new PerformanceTracker()));
+        new ExternalSorter((1 << 29) - 1, 2, 64, 1, new PerformanceTracker());
+    }
+}
@@ -0,0 +1,78 @@
+package com.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.metrics.PerformanceTracker;
+
+public class HeapSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private static MinHeap randomHeap(int n, int arity) {
+        Random rnd = new Random(42);
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = rnd.nextInt();
+        return MinHeap.fromArray(data, new PerformanceTracker(), arity);
+    }
+
+    @Test
+    public void testRoundTripPreservesHeap() throws IOException {
+        for (int arity : new int[] {2, 4, 8}) {
+            MinHeap original = randomHeap(50_000, arity);
+            Path file = dir.resolve("heap-" + arity + ".snap");
+            HeapSnapshot.write(original, file);
+
+            PerformanceTracker tracker = new PerformanceTracker();
+            MinHeap loaded = HeapSnapshot.read(file, tracker, true);
+            assertEquals(arity, loaded.getArity());
+            assertEquals(original.getHeap(), loaded.getHeap());
+            assertEquals(0, tracker.getComparisonCount());
+
+            while (!original.isEmpty()) assertEquals(original.extractMin(), loaded.extractMin());
+            assertTrue(loaded.isEmpty());
+        }
+    }
+
+    @Test
+    public void testEmptyHeapRoundTrip() throws IOException {
+        Path file = dir.resolve("empty.snap");
+        HeapSnapshot.write(new MinHeap(new PerformanceTracker()), file);
+        MinHeap loaded = HeapSnapshot.read(file, new PerformanceTracker(), true);
+        assertTrue(loaded.isEmpty());
+        loaded.insert(3);
+        assertEquals(3, loaded.extractMin());
+    }
+
+    @Test
+    public void testCorruptionIsDetectedWhenValidating() throws IOException {
+        Path file = dir.resolve("corrupt.snap");
+        HeapSnapshot.write(randomHeap(1000, 2), file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), 32 + 40);
+        }
+        assertThrows(IOException.class, () -> HeapSnapshot.read(file, new PerformanceTracker(), true));
+        assertEquals(1000, HeapSnapshot.read(file, new PerformanceTracker()).size());
+    }
+
+    @Test
+    public void testTruncatedSnapshotIsRejected() throws IOException {
+        Path file = dir.resolve("truncated.snap");
+        HeapSnapshot.write(randomHeap(1000, 2), file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(1000);
+        }
+        assertThrows(IOException.class, () -> HeapSnapshot.read(file, new PerformanceTracker()));
+    }
+}
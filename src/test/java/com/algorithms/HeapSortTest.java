@@ -0,0 +1,81 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.PerformanceTracker;
+
+public class HeapSortTest {
+
+    @Test
+    public void testSortMatchesJavaSort() {
+        Random rnd = new Random(29);
+        for (int n : new int[] {0, 1, 2, 3, 17, 1000, 10_001}) {
+            int[] ints = new int[n];
+            long[] longs = new long[n];
+            for (int i = 0; i < n; i++) {
+                ints[i] = rnd.nextInt(n + 1) - n / 2;
+                longs[i] = rnd.nextLong();
+            }
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+
+            HeapSort.sort(ints);
+            HeapSort.sort(longs);
+            assertArrayEquals(expectedInts, ints);
+            assertArrayEquals(expectedLongs, longs);
+        }
+    }
+
+    @Test
+    public void testSortSubrangeLeavesRestAlone() {
+        int[] a = {9, 8, 7, 6, 5, 4, 3, 2, 1};
+        HeapSort.sort(a, 2, 7, new PerformanceTracker());
+        assertArrayEquals(new int[] {9, 8, 3, 4, 5, 6, 7, 2, 1}, a);
+        assertThrows(IndexOutOfBoundsException.class, () -> HeapSort.sort(a, 4, 10, new PerformanceTracker()));
+    }
+
+    @Test
+    public void testBottomUpUsesAboutNLogNComparisons() {
+        Random rnd = new Random(31);
+        int n = 1 << 16;
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) a[i] = rnd.nextInt();
+        PerformanceTracker tracker = new PerformanceTracker();
+        HeapSort.sort(a, tracker);
+        // the classic top-down sift-down needs close to 2 n log2 n
+        assertTrue(tracker.getComparisonCount() < 1.2 * n * 16, "comparisons: " + tracker.getComparisonCount());
+    }
+
+    @Test
+    public void testNsmallest() {
+        Random rnd = new Random(37);
+        for (int k : new int[] {0, 1, 50, 999, 1000}) {
+            int[] ints = new int[1000];
+            long[] longs = new long[1000];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = rnd.nextInt(300);
+                longs[i] = rnd.nextLong();
+            }
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+
+            HeapSort.nsmallest(ints, k);
+            HeapSort.nsmallest(longs, k);
+            assertArrayEquals(Arrays.copyOf(expectedInts, k), Arrays.copyOf(ints, k));
+            assertArrayEquals(Arrays.copyOf(expectedLongs, k), Arrays.copyOf(longs, k));
+            Arrays.sort(ints);
+            assertArrayEquals(expectedInts, ints);
+        }
+        assertThrows(IllegalArgumentException.class, () -> HeapSort.nsmallest(new int[3], 4));
+    }
+}
@@ -0,0 +1,158 @@
+package com.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.metrics.PerformanceTracker;
+import com.metrics.Tracker;
+
+// Runs the MinHeapTest scenarios against every heap specialisation through a common int-valued adapter.
+public class HeapVariantsTest {
+
+    interface Heap {
+        void insert(int value);
+        int extractMin();
+        void decreaseKey(int index, int value);
+        void addAll(int[] values);
+        int size();
+    }
+
+    static Stream<Arguments> variants() {
+        return Stream.of(
+                Arguments.of("MinHeap", (Function<Tracker, Heap>) HeapVariantsTest::intHeap),
+                Arguments.of("MinHeap(4-ary)", (Function<Tracker, Heap>) t -> intHeap(new MinHeap(t, 4))),
+                Arguments.of("LongMinHeap", (Function<Tracker, Heap>) HeapVariantsTest::longHeap),
+                Arguments.of("DoubleMinHeap", (Function<Tracker, Heap>) HeapVariantsTest::doubleHeap),
+                Arguments.of("ObjectMinHeap", (Function<Tracker, Heap>) HeapVariantsTest::objectHeap));
+    }
+
+    private static Heap intHeap(Tracker tracker) {
+        return intHeap(new MinHeap(tracker));
+    }
+
+    private static Heap intHeap(MinHeap h) {
+        return new Heap() {
+            public void insert(int value) { h.insert(value); }
+            public int extractMin() { return h.extractMin(); }
+            public void decreaseKey(int index, int value) { h.decreaseKey(index, value); }
+            public void addAll(int[] values) { h.addAll(values); }
+            public int size() { return h.size(); }
+        };
+    }
+
+    private static Heap longHeap(Tracker tracker) {
+        LongMinHeap h = new LongMinHeap(tracker);
+        return new Heap() {
+            public void insert(int value) { h.insert(value); }
+            public int extractMin() { return (int) h.extractMin(); }
+            public void decreaseKey(int index, int value) { h.decreaseKey(index, value); }
+            public void addAll(int[] values) { h.addAll(Arrays.stream(values).asLongStream().toArray()); }
+            public int size() { return h.size(); }
+        };
+    }
+
+    private static Heap doubleHeap(Tracker tracker) {
+        DoubleMinHeap h = new DoubleMinHeap(tracker);
+        return new Heap() {
+            public void insert(int value) { h.insert(value); }
+            public int extractMin() { return (int) h.extractMin(); }
+            public void decreaseKey(int index, int value) { h.decreaseKey(index, value); }
+            public void addAll(int[] values) { h.addAll(Arrays.stream(values).asDoubleStream().toArray()); }
+            public int size() { return h.size(); }
+        };
+    }
+
+    private static Heap objectHeap(Tracker tracker) {
+        ObjectMinHeap<Integer> h = new ObjectMinHeap<>(Comparator.naturalOrder(), tracker);
+        return new Heap() {
+            public void insert(int value) { h.insert(value); }
+            public int extractMin() { return h.extractMin(); }
+            public void decreaseKey(int index, int value) { h.decreaseKey(index, value); }
+            public void addAll(int[] values) { h.addAll(Arrays.stream(values).boxed().toArray(Integer[]::new)); }
+            public int size() { return h.size(); }
+        };
+    }
+
+    private static List<Integer> drain(Heap heap) {
+        List<Integer> result = new ArrayList<>();
+        while (heap.size() > 0) result.add(heap.extractMin());
+        return result;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    public void testEmptyHeapThrowsException(String name, Function<Tracker, Heap> factory) {
+        Heap heap = factory.apply(new PerformanceTracker());
+        assertThrows(IllegalStateException.class, heap::extractMin);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    public void testDuplicatesAndOrder(String name, Function<Tracker, Heap> factory) {
+        Heap heap = factory.apply(new PerformanceTracker());
+        for (int v : new int[] {5, 3, 5, 1, 3}) heap.insert(v);
+        assertEquals(List.of(1, 3, 3, 5, 5), drain(heap));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    public void testDecreaseKey(String name, Function<Tracker, Heap> factory) {
+        Heap heap = factory.apply(new PerformanceTracker());
+        heap.insert(10);
+        heap.insert(20);
+        heap.insert(30);
+        heap.decreaseKey(2, 5);
+        assertEquals(5, heap.extractMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 99));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(5, 1));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    public void testRandomInputMatchesJavaSort(String name, Function<Tracker, Heap> factory) {
+        Random rnd = new Random(42);
+        for (int t = 0; t < 20; t++) {
+            int[] data = new int[300];
+            for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(1000) - 500;
+
+            Heap heap = factory.apply(new PerformanceTracker());
+            if (t % 2 == 0) {
+                for (int v : data) heap.insert(v);
+            } else {
+                heap.addAll(data);
+            }
+
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+            List<Integer> actual = drain(heap);
+            for (int i = 0; i < expected.length; i++) assertEquals(expected[i], actual.get(i));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    public void testTrackerCountsOperations(String name, Function<Tracker, Heap> factory) {
+        PerformanceTracker tracker = new PerformanceTracker();
+        Heap heap = factory.apply(tracker);
+        for (int i = 100; i > 0; i--) heap.insert(i);
+        for (int i = 0; i < 50; i++) heap.extractMin();
+
+        assertEquals(100, tracker.getInsertCount());
+        assertEquals(50, tracker.getExtractCount());
+        assertTrue(tracker.getComparisonCount() > 0);
+        assertTrue(tracker.getSwapCount() > 0);
+        assertTrue(tracker.getArrayAccesses() > 0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.PerformanceTracker;
+
+public class IndexedMinHeapTest {
+
+    @Test
+    public void testEmptyHeapThrowsException() {
+        IndexedMinHeap heap = new IndexedMinHeap(4, new PerformanceTracker());
+        assertThrows(IllegalStateException.class, heap::extractMinId);
+    }
+
+    @Test
+    public void testDecreaseKeyById() {
+        IndexedMinHeap heap = new IndexedMinHeap(4, new PerformanceTracker());
+        heap.insert(0, 10);
+        heap.insert(1, 20);
+        heap.insert(2, 30);
+        heap.decreaseKey(2, 5);
+        assertEquals(5, heap.peekKey());
+        assertEquals(2, heap.extractMinId());
+        assertFalse(heap.contains(2));
+        assertEquals(0, heap.extractMinId());
+    }
+
+    @Test
+    public void testIncreaseKeyAndRemove() {
+        IndexedMinHeap heap = new IndexedMinHeap(5, new PerformanceTracker());
+        for (int id = 0; id < 5; id++) heap.insert(id, id * 10);
+        heap.increaseKey(0, 35);
+        heap.remove(3);
+        assertFalse(heap.contains(3));
+
+        List<Integer> order = new ArrayList<>();
+        while (!heap.isEmpty()) order.add(heap.extractMinId());
+        assertEquals(List.of(1, 2, 0, 4), order);
+    }
+
+    @Test
+    public void testInvalidOperations() {
+        IndexedMinHeap heap = new IndexedMinHeap(2, new PerformanceTracker());
+        heap.insert(0, 10);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 20));
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(1));
+    }
+
+    @Test
+    public void testRandomOperationsMatchPriorityQueue() {
+        Random rnd = new Random(42);
+        int n = 200;
+        IndexedMinHeap heap = new IndexedMinHeap(n, new PerformanceTracker());
+        int[] key = new int[n];
+        PriorityQueue<Long> reference = new PriorityQueue<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int id = rnd.nextInt(n);
+            if (!heap.contains(id)) {
+                key[id] = rnd.nextInt(1000);
+                heap.insert(id, key[id]);
+            } else if (rnd.nextBoolean()) {
+                key[id] = key[id] - rnd.nextInt(50);
+                heap.decreaseKey(id, key[id]);
+            } else {
+                heap.remove(id);
+            }
+            if (step % 100 == 0) {
+                reference.clear();
+                for (int i = 0; i < n; i++) {
+                    if (heap.contains(i)) reference.add((long) key[i]);
+                }
+                if (!reference.isEmpty()) assertEquals((long) reference.peek(), heap.peekKey());
+            }
+        }
+
+        int prev = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int id = heap.extractMinId();
+            assertTrue(key[id] >= prev);
+            prev = key[id];
+        }
+    }
+}
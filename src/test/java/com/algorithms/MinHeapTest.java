@@ -1,15 +1,20 @@
 package com.algorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import org.junit.jupiter.api.Test;
 
+import com.metrics.LatencyHistogram;
+import com.metrics.Operation;
 import com.metrics.PerformanceTracker;
 
 public class MinHeapTest {
@@ -80,8 +85,11 @@ public class MinHeapTest {
         heap.insert(10);
         heap.insert(20);
         heap.insert(30);
+        assertEquals(30, heap.keyAt(2));
         heap.decreaseKey(2, 5);
+        assertEquals(5, heap.keyAt(0));
         assertEquals(5, heap.extractMin());
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.keyAt(2));
     }
 
     @Test
@@ -202,4 +210,273 @@ public class MinHeapTest {
         }
     }
 
+    @Test
+    public void testFromArrayMatchesJavaSort() {
+        Random rnd = new Random(7);
+        int[] data = new int[500];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(100);
+
+        MinHeap heap = MinHeap.fromArray(data);
+        assertEquals(data.length, heap.getTracker().getInsertCount());
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        for (int v : expected) assertEquals(v, heap.extractMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testAddAllIntoNonEmptyHeap() {
+        MinHeap heap = new MinHeap(new PerformanceTracker());
+        heap.insert(50);
+        heap.insert(3);
+        heap.addAll(new int[] {9, 1, 70, 4, 4, 12, 0, 33});
+        heap.addAll(new int[] {2});
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 4, 9, 12, 33, 50, 70), drain(heap));
+    }
+
+    @Test
+    public void testMergeLargeHeapsRebuilds() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        MinHeap h1 = new MinHeap(tracker);
+        MinHeap h2 = new MinHeap(new PerformanceTracker());
+        for (int i = 0; i < 1000; i++) {
+            h1.insert(2 * i);
+            h2.insert(2 * i + 1);
+        }
+        long swapsBefore = tracker.getSwapCount();
+        h1.merge(h2);
+        assertEquals(1000, h2.size());
+        assertTrue(tracker.getSwapCount() - swapsBefore < 2000);
+
+        for (int i = 0; i < 2000; i++) assertEquals(i, h1.extractMin());
+    }
+
+    @Test
+    public void testGrowthPoliciesClampPastIntRange() {
+        int big = 1 << 30;
+        int max = GrowthPolicy.MAX_CAPACITY;
+        assertEquals(max, GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, big + 1, big + 2));
+        assertEquals(max, GrowthPolicy.nextCapacity(GrowthPolicy.ONE_AND_HALF, 1_500_000_000, 1_500_000_001));
+        assertEquals(max, GrowthPolicy.nextCapacity(GrowthPolicy.fixedIncrement(1 << 20), max - 5, max - 4));
+        assertEquals(big, GrowthPolicy.nextCapacity(GrowthPolicy.DOUBLING, 1 << 29, (1 << 29) + 1));
+        MinHeap heap = new MinHeap(new PerformanceTracker());
+        assertThrows(OutOfMemoryError.class, () -> heap.ensureCapacity(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testDestructiveMergeEmptiesOther() {
+        MinHeap h1 = new MinHeap(new PerformanceTracker());
+        MinHeap h2 = new MinHeap(new PerformanceTracker(), 64, GrowthPolicy.DOUBLING);
+        h1.insert(8);
+        h1.insert(3);
+        for (int v : new int[] {6, 1, 9, 2, 7}) h2.insert(v);
+
+        h1.merge(h2, true);
+        assertTrue(h2.isEmpty());
+        h2.insert(100);
+
+        assertEquals(List.of(1, 2, 3, 6, 7, 8, 9), drain(h1));
+        assertEquals(100, h2.extractMin());
+    }
+
+    @Test
+    public void testMergeWithItself() {
+        MinHeap heap = new MinHeap(new PerformanceTracker());
+        heap.insert(2);
+        heap.insert(1);
+        heap.merge(heap);
+        assertEquals(List.of(1, 1, 2, 2), drain(heap));
+    }
+
+    @Test
+    public void testDaryHeapsMatchJavaSort() {
+        Random rnd = new Random(11);
+        for (int arity : new int[] {2, 3, 4, 8, 16}) {
+            int[] data = new int[2000];
+            for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(5000);
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+
+            MinHeap inserted = new MinHeap(new PerformanceTracker(), arity);
+            for (int v : data) inserted.insert(v);
+            MinHeap built = MinHeap.fromArray(data, new PerformanceTracker(), arity);
+            built.decreaseKey(built.size() - 1, -1);
+
+            assertEquals(-1, built.extractMin());
+            for (int v : expected) assertEquals(v, inserted.extractMin());
+            assertEquals(data.length - 1, built.size());
+        }
+    }
+
+    @Test
+    public void testLatencyRecordingPerOperation() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.enableLatencyRecording();
+        MinHeap heap = new MinHeap(tracker);
+        for (int i = 0; i < 1000; i++) heap.insert(1000 - i);
+        for (int i = 0; i < 10; i++) heap.decreaseKey(heap.size() - 1, -i);
+        for (int i = 0; i < 500; i++) heap.extractMin();
+        heap.merge(MinHeap.fromArray(new int[] {1, 2, 3}));
+
+        LatencyHistogram inserts = tracker.getLatencyHistogram(Operation.INSERT);
+        assertEquals(1000, inserts.getCount());
+        assertEquals(10, tracker.getLatencyHistogram(Operation.DECREASE_KEY).getCount());
+        assertEquals(500, tracker.getLatencyHistogram(Operation.EXTRACT_MIN).getCount());
+        assertEquals(1, tracker.getLatencyHistogram(Operation.MERGE).getCount());
+        assertTrue(inserts.getP50() <= inserts.getP99());
+        assertTrue(inserts.getP999() <= inserts.getMax());
+    }
+
+    @Test
+    public void testInsertAllKeepsHeapOrder() {
+        Random rnd = new Random(13);
+        for (int arity : new int[] {2, 4, 8}) {
+            for (int k : new int[] {1, 16, 300, 20_000}) {
+                MinHeap heap = new MinHeap(new PerformanceTracker(), arity);
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < 10_000; i++) {
+                    int v = rnd.nextInt(100_000);
+                    heap.insert(v);
+                    expected.add(v);
+                }
+                int[] src = new int[k + 10];
+                for (int i = 0; i < src.length; i++) src[i] = rnd.nextInt(100_000);
+                heap.insertAll(src, 5, k);
+                for (int i = 5; i < 5 + k; i++) expected.add(src[i]);
+
+                assertTrue(heap.isHeapOrdered());
+                assertEquals(10_000 + k, heap.getTracker().getInsertCount());
+                Collections.sort(expected);
+                assertEquals(expected, drain(heap));
+            }
+        }
+    }
+
+    @Test
+    public void testInsertAllRejectsBadRange() {
+        MinHeap heap = new MinHeap(new PerformanceTracker());
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.insertAll(new int[4], 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.insertAll(new int[4], -1, 1));
+    }
+
+    @Test
+    public void testExtractMinBatch() {
+        Random rnd = new Random(17);
+        for (int k : new int[] {1, 16, 256, 500, 1000}) {
+            int[] data = new int[1000];
+            for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(5000);
+            int[] expected = data.clone();
+            Arrays.sort(expected);
+
+            MinHeap heap = MinHeap.fromArray(data, new PerformanceTracker(), 4);
+            int[] dest = new int[k];
+            assertEquals(k, heap.extractMin(k, dest));
+            assertTrue(heap.isHeapOrdered());
+            assertEquals(1000 - k, heap.size());
+            assertTrue(Arrays.equals(expected, 0, k, dest, 0, k));
+            for (int i = k; i < expected.length; i++) assertEquals(expected[i], heap.extractMin());
+        }
+    }
+
+    @Test
+    public void testExtractMinBatchStopsWhenEmpty() {
+        MinHeap heap = MinHeap.fromArray(new int[] {5, 2, 9});
+        int[] dest = new int[8];
+        assertEquals(3, heap.extractMin(8, dest));
+        assertEquals(List.of(2, 5, 9), List.of(dest[0], dest[1], dest[2]));
+        assertEquals(0, heap.extractMin(8, dest));
+        assertEquals(3, heap.getTracker().getExtractCount());
+        assertThrows(IllegalArgumentException.class, () -> heap.extractMin(9, dest));
+    }
+
+    @Test
+    public void testExtractMinBatchCountsComparisons() {
+        Random rnd = new Random(23);
+        int[] data = new int[1000];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt();
+        MinHeap heap = MinHeap.fromArray(data, new PerformanceTracker(), 2);
+        heap.getTracker().reset();
+        assertEquals(600, heap.extractMin(600, new int[600]));
+        assertTrue(heap.getTracker().getComparisonCount() >= 1000);
+        assertEquals(600, heap.getTracker().getExtractCount());
+    }
+
+    @Test
+    public void testParallelBuildIsHeapOrdered() {
+        Random rnd = new Random(19);
+        int[] data = new int[3_000_000];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int arity : new int[] {2, 4, 8}) {
+                PerformanceTracker tracker = new PerformanceTracker();
+                MinHeap heap = MinHeap.fromArrayParallel(data, tracker, arity, pool);
+                assertEquals(data.length, heap.size());
+                assertEquals(data.length, tracker.getInsertCount());
+                assertTrue(heap.isHeapOrdered());
+                assertEquals(Arrays.stream(data).min().getAsInt(), heap.extractMin());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSiftModesMatchBranchyLayoutAndCounts() {
+        Random rnd = new Random(23);
+        int[] data = new int[5003];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(1000);
+        for (int arity : new int[] {2, 3, 4, 8, 16}) {
+            PerformanceTracker reference = new PerformanceTracker();
+            MinHeap branchy = new MinHeap(reference, arity, 0, GrowthPolicy.DOUBLING);
+            branchy.addAll(data);
+            List<Integer> expected = new ArrayList<>(branchy.getHeap());
+            for (SiftMode mode : new SiftMode[] {SiftMode.BRANCHLESS, SiftMode.VECTOR}) {
+                PerformanceTracker tracker = new PerformanceTracker();
+                MinHeap heap = new MinHeap(tracker, arity, 0, GrowthPolicy.DOUBLING, mode);
+                heap.addAll(data);
+                assertEquals(expected, heap.getHeap());
+                assertEquals(reference.getComparisonCount(), tracker.getComparisonCount());
+                assertEquals(reference.getArrayAccesses(), tracker.getArrayAccesses());
+                assertTrue(heap.getSiftMode() != SiftMode.BRANCHY);
+            }
+        }
+        MinHeap vector = new MinHeap(new PerformanceTracker(), 8, 0, GrowthPolicy.DOUBLING, SiftMode.VECTOR);
+        vector.addAll(data);
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        for (int v : sorted) assertEquals(v, vector.extractMin());
+    }
+
+    @Test
+    public void testVectorModeEngagesWhenBuilt() {
+        // only meaningful under mvn -Pvector, which compiles VectorMinChild and loads the module
+        boolean built = MinHeap.class.getResource("VectorMinChild.class") != null;
+        assumeTrue(built && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        MinHeap heap = new MinHeap(new PerformanceTracker(), 4, 0, GrowthPolicy.DOUBLING, SiftMode.VECTOR);
+        assertEquals(SiftMode.VECTOR, heap.getSiftMode());
+        assertEquals(SiftMode.BRANCHLESS,
+                new MinHeap(new PerformanceTracker(), 2, 0, GrowthPolicy.DOUBLING, SiftMode.VECTOR).getSiftMode());
+    }
+
+    @Test
+    public void testChildIndexDoesNotOverflow() {
+        // with 2^20 children per node, firstChild passes Integer.MAX_VALUE from the 2048th node on; the
+        // same happens at arity 16 past ~134M elements
+        int[] data = new int[3_000_000];
+        for (int i = 0; i < data.length; i++) data[i] = data.length - i;
+        MinHeap heap = MinHeap.fromArray(data, new PerformanceTracker(), 1 << 20);
+        assertTrue(heap.isHeapOrdered());
+        assertEquals(1, heap.extractMin());
+        assertEquals(2, heap.extractMin());
+    }
+
+    private static List<Integer> drain(MinHeap heap) {
+        List<Integer> result = new ArrayList<>();
+        while (!heap.isEmpty()) result.add(heap.extractMin());
+        return result;
+    }
+
 }
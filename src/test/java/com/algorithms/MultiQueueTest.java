@@ -0,0 +1,66 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.PerformanceTracker;
+
+public class MultiQueueTest {
+
+    @Test
+    public void testEmptyQueueReturnsNull() {
+        MultiQueue queue = new MultiQueue(4, new PerformanceTracker());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.tryExtractMin());
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueue(1, new PerformanceTracker()));
+    }
+
+    @Test
+    public void testEveryElementComesOutOnce() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        MultiQueue queue = new MultiQueue(8, tracker, 1);
+        int n = 5000;
+        for (int i = 0; i < n; i++) queue.insert(i);
+
+        int[] seen = new int[n];
+        Integer v;
+        while ((v = queue.tryExtractMin()) != null) seen[v]++;
+
+        int[] once = new int[n];
+        Arrays.fill(once, 1);
+        assertEquals(0, Arrays.compare(once, seen));
+        assertEquals(n, tracker.getExtractCount());
+        assertEquals(n, tracker.getRankErrorSamples());
+        assertTrue(tracker.getMaxRankError() < 8);
+    }
+
+    @Test
+    public void testConcurrentInsertAndExtract() throws InterruptedException {
+        MultiQueue queue = MultiQueue.forThreads(4, 2, new PerformanceTracker());
+        int perThread = 5000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(4 * perThread);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.insert(i * 4 + offset);
+                    Integer v = queue.tryExtractMin();
+                    if (v != null) seen.incrementAndGet(v);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+        Integer v;
+        while ((v = queue.tryExtractMin()) != null) seen.incrementAndGet(v);
+
+        for (int i = 0; i < seen.length(); i++) assertEquals(1, seen.get(i));
+    }
+}
@@ -0,0 +1,86 @@
+package com.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.metrics.PerformanceTracker;
+
+public class OffHeapMinHeapTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testEmptyHeapThrowsException() throws IOException {
+        try (OffHeapMinHeap heap = OffHeapMinHeap.create(dir.resolve("heap.bin"), new PerformanceTracker())) {
+            assertThrows(IllegalStateException.class, heap::extractMin);
+        }
+    }
+
+    @Test
+    public void testRandomInputAcrossSegments() throws IOException {
+        Random rnd = new Random(42);
+        int[] data = new int[10_000];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(100_000) - 50_000;
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+
+        PerformanceTracker tracker = new PerformanceTracker();
+        // 1024 ints per segment forces the heap to grow by remapping several times
+        try (OffHeapMinHeap heap = OffHeapMinHeap.create(dir.resolve("heap.bin"), tracker, 10)) {
+            for (int v : data) heap.insert(v);
+            assertTrue(heap.capacity() >= data.length);
+            for (int v : expected) assertEquals(v, heap.extractMin());
+            assertTrue(heap.isEmpty());
+        }
+        assertEquals(data.length, tracker.getInsertCount());
+        assertEquals(data.length, tracker.getExtractCount());
+    }
+
+    @Test
+    public void testReopenAfterForce() throws IOException {
+        Path file = dir.resolve("heap.bin");
+        try (OffHeapMinHeap heap = OffHeapMinHeap.create(file, new PerformanceTracker(), 10)) {
+            for (int i = 3000; i > 0; i--) heap.insert(i);
+            heap.decreaseKey(heap.size() - 1, -5);
+            heap.force();
+        }
+        try (OffHeapMinHeap heap = OffHeapMinHeap.open(file, new PerformanceTracker())) {
+            assertEquals(3000, heap.size());
+            assertEquals(-5, heap.extractMin());
+            int prev = Integer.MIN_VALUE;
+            while (!heap.isEmpty()) {
+                int cur = heap.extractMin();
+                assertTrue(cur >= prev);
+                prev = cur;
+            }
+        }
+    }
+
+    @Test
+    public void testOpenRejectsCorruptHeader() throws IOException {
+        Path file = dir.resolve("heap.bin");
+        try (OffHeapMinHeap heap = OffHeapMinHeap.create(file, new PerformanceTracker(), 10)) {
+            heap.insert(1);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer shift = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder()).putInt(0, 40);
+            channel.write(shift, 8);
+        }
+        assertThrows(IllegalArgumentException.class, () -> OffHeapMinHeap.open(file, new PerformanceTracker()));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapMinHeap.create(file, new PerformanceTracker(), 4));
+        assertThrows(IOException.class, () -> OffHeapMinHeap.open(dir.resolve("missing.bin"), new PerformanceTracker()));
+    }
+}
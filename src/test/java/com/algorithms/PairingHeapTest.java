@@ -0,0 +1,103 @@
+package com.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.PerformanceTracker;
+
+public class PairingHeapTest {
+
+    @Test
+    public void testRandomOperationsMatchReference() {
+        Random rnd = new Random(53);
+        PairingHeap heap = new PairingHeap(new PerformanceTracker());
+        List<Integer> live = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int choice = rnd.nextInt(10);
+            if (choice < 5 || live.isEmpty()) {
+                live.add(heap.insert(rnd.nextInt(10_000)));
+            } else if (choice < 8) {
+                int h = live.get(rnd.nextInt(live.size()));
+                heap.decreaseKey(h, heap.keyOf(h) - rnd.nextInt(500));
+            } else {
+                int expected = Integer.MAX_VALUE;
+                for (int h : live) expected = Math.min(expected, heap.keyOf(h));
+                int h = heap.peekHandle();
+                assertEquals(expected, heap.extractMin());
+                assertFalse(heap.contains(h));
+                live.remove(Integer.valueOf(h));
+            }
+            assertEquals(live.size(), heap.size());
+        }
+        int prev = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int v = heap.extractMin();
+            assertTrue(v >= prev);
+            prev = v;
+        }
+    }
+
+    @Test
+    public void testHandlesAreRecycled() {
+        PairingHeap heap = new PairingHeap(new PairingHeap.NodePool(4), new PerformanceTracker());
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 4; i++) heap.insert(i);
+            for (int i = 0; i < 4; i++) assertEquals(i, heap.extractMin());
+        }
+        assertEquals(4, heap.getPool().capacity());
+    }
+
+    @Test
+    public void testMeldSharedAndSeparatePools() {
+        PairingHeap.NodePool pool = new PairingHeap.NodePool();
+        PairingHeap a = new PairingHeap(pool, new PerformanceTracker());
+        PairingHeap b = new PairingHeap(pool, new PerformanceTracker());
+        PairingHeap c = new PairingHeap(new PerformanceTracker());
+        for (int i = 0; i < 10; i++) {
+            a.insert(3 * i);
+            b.insert(3 * i + 1);
+            c.insert(3 * i + 2);
+        }
+        a.meld(b);
+        a.meld(c);
+        assertTrue(b.isEmpty());
+        assertTrue(c.isEmpty());
+        assertEquals(30, a.size());
+        for (int i = 0; i < 30; i++) assertEquals(i, a.extractMin());
+    }
+
+    @Test
+    public void testDecreaseKeyValidation() {
+        PairingHeap heap = new PairingHeap(new PerformanceTracker());
+        int h = heap.insert(10);
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(h, 11));
+        heap.extractMin();
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(h, 1));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(7, 1));
+        assertThrows(IllegalStateException.class, heap::extractMin);
+    }
+
+    @Test
+    public void testDecreaseKeyRejectsOtherHeapsRoot() {
+        PairingHeap.NodePool pool = new PairingHeap.NodePool();
+        PairingHeap a = new PairingHeap(pool, new PerformanceTracker());
+        PairingHeap b = new PairingHeap(pool, new PerformanceTracker());
+        a.insert(5);
+        a.insert(7);
+        int bRoot = b.insert(3);
+        b.insert(4);
+        assertEquals(bRoot, b.peekHandle());
+        assertThrows(IllegalArgumentException.class, () -> a.decreaseKey(bRoot, 1));
+        assertEquals(5, a.extractMin());
+        assertEquals(7, a.extractMin());
+        assertEquals(3, b.extractMin());
+        assertEquals(4, b.extractMin());
+    }
+}
@@ -0,0 +1,93 @@
+package com.algorithms;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.Operation;
+import com.metrics.PerformanceTracker;
+
+public class RadixHeapTest {
+
+    @Test
+    public void testMonotoneTraceMatchesPriorityQueue() {
+        Random rnd = new Random(61);
+        RadixHeap heap = new RadixHeap(new PerformanceTracker(), -1000);
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        int floor = -1000;
+        for (int step = 0; step < 20_000; step++) {
+            if (reference.isEmpty() || rnd.nextInt(3) != 0) {
+                // mostly small offsets, occasionally one that crosses the sign bit or the high buckets
+                int key = floor + (rnd.nextInt(50) == 0 ? rnd.nextInt(1 << 30) : rnd.nextInt(64));
+                heap.insert(key);
+                reference.add(key);
+            } else {
+                assertEquals((int) reference.peek(), heap.peek());
+                floor = heap.extractMin();
+                assertEquals((int) reference.poll(), floor);
+                assertEquals(floor, heap.floor());
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+        while (!reference.isEmpty()) assertEquals((int) reference.poll(), heap.extractMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testRejectsKeysBelowLastExtracted() {
+        RadixHeap heap = new RadixHeap(new PerformanceTracker());
+        heap.insert(10);
+        heap.insert(20);
+        heap.insert(10);
+        assertEquals(10, heap.extractMin());
+        heap.insert(10);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(9));
+        assertEquals(10, heap.extractMin());
+        assertEquals(10, heap.extractMin());
+        assertEquals(20, heap.peek());
+        // peek leaves the floor where it was
+        heap.insert(15);
+        assertEquals(15, heap.extractMin());
+        assertEquals(20, heap.extractMin());
+        assertThrows(IllegalStateException.class, heap::extractMin);
+
+        heap.clear();
+        heap.insert(Integer.MIN_VALUE);
+        assertEquals(Integer.MIN_VALUE, heap.extractMin());
+    }
+
+    @Test
+    public void testLongKeysMatchPriorityQueue() {
+        Random rnd = new Random(67);
+        LongRadixHeap heap = new LongRadixHeap(new PerformanceTracker(), 0L);
+        PriorityQueue<Long> reference = new PriorityQueue<>();
+        long floor = 0;
+        for (int step = 0; step < 20_000; step++) {
+            if (reference.isEmpty() || rnd.nextInt(3) != 0) {
+                long key = floor + (rnd.nextBoolean() ? rnd.nextInt(100) : (rnd.nextLong() >>> 24));
+                heap.insert(key);
+                reference.add(key);
+            } else {
+                floor = heap.extractMin();
+                assertEquals((long) reference.poll(), floor);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(heap.floor() - 1));
+        while (!reference.isEmpty()) assertEquals((long) reference.poll(), heap.extractMin());
+    }
+
+    @Test
+    public void testLongKeysRecordLatency() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.enableLatencyRecording();
+        LongRadixHeap heap = new LongRadixHeap(tracker);
+        for (long k = 0; k < 100; k++) heap.insert(k << 32);
+        for (int i = 0; i < 40; i++) heap.extractMin();
+        assertEquals(100, tracker.getLatencyHistogram(Operation.INSERT).getCount());
+        assertEquals(40, tracker.getLatencyHistogram(Operation.EXTRACT_MIN).getCount());
+    }
+}
@@ -0,0 +1,113 @@
+package com.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.Operation;
+import com.metrics.PerformanceTracker;
+
+public class ShardedMinHeapTest {
+
+    @Test
+    public void testTournamentExtractIsGloballyOrdered() {
+        Random rnd = new Random(79);
+        ShardedMinHeap heap = new ShardedMinHeap(4, new PerformanceTracker());
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rnd.nextInt(100_000);
+            heap.insert(rnd.nextInt(4), values[i]);
+        }
+        Arrays.sort(values);
+        for (int v : values) assertEquals(v, (int) heap.tryExtractMin());
+        assertNull(heap.tryExtractMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testLocalExtractAndRebalance() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        ShardedMinHeap heap = new ShardedMinHeap(2, tracker, 1, 64);
+        for (int i = 0; i < 100; i++) {
+            heap.insert(0, i);
+            heap.insert(1, 1000 + i);
+        }
+        // shard 1's owner sees 1000 while 100 smaller keys sit in shard 0
+        assertEquals(1000, (int) heap.extractLocal(1));
+        assertEquals(100, tracker.getMaxRankError());
+
+        assertEquals(32, heap.rebalance());
+        assertEquals(1, heap.shardTop(1));
+        int[] batch = new int[4];
+        assertEquals(4, heap.drainLocal(1, batch));
+        assertArrayEquals(new int[] {1, 3, 5, 7}, batch);
+
+        List<Integer> rest = new ArrayList<>();
+        for (Integer v = heap.tryExtractMin(); v != null; v = heap.tryExtractMin()) rest.add(v);
+        assertEquals(195, rest.size());
+        for (int i = 1; i < rest.size(); i++) assertTrue(rest.get(i - 1) <= rest.get(i));
+        assertNull(heap.extractLocal(0));
+    }
+
+    @Test
+    public void testConcurrentWorkersWithRebalancerLoseNothing() throws InterruptedException {
+        int workers = 4;
+        int perWorker = 20_000;
+        ShardedMinHeap heap = new ShardedMinHeap(workers, new PerformanceTracker());
+        heap.startRebalancing(1, TimeUnit.MILLISECONDS);
+        ConcurrentLinkedQueue<Integer> extracted = new ConcurrentLinkedQueue<>();
+        Thread[] threads = new Thread[workers];
+        for (int w = 0; w < workers; w++) {
+            final int shard = w;
+            threads[w] = new Thread(() -> {
+                for (int i = 0; i < perWorker; i++) {
+                    heap.insert(shard, shard * perWorker + i);
+                    if ((i & 3) == 0) {
+                        Integer v = (i & 4) == 0 ? heap.extractLocal(shard) : heap.tryExtractMin();
+                        if (v != null) extracted.add(v);
+                    }
+                }
+            });
+            threads[w].start();
+        }
+        for (Thread t : threads) t.join();
+        heap.close();
+        for (Integer v = heap.tryExtractMin(); v != null; v = heap.tryExtractMin()) extracted.add(v);
+
+        int[] all = extracted.stream().mapToInt(Integer::intValue).sorted().toArray();
+        assertEquals(workers * perWorker, all.length);
+        for (int i = 0; i < all.length; i++) assertEquals(i, all[i]);
+    }
+
+    @Test
+    public void testSharedTrackerRecordsLatencyFromEveryWorker() throws InterruptedException {
+        int workers = 4;
+        int perWorker = 10_000;
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.enableLatencyRecording();
+        ShardedMinHeap heap = new ShardedMinHeap(workers, tracker, 0, 64);
+        Thread[] threads = new Thread[workers];
+        for (int w = 0; w < workers; w++) {
+            final int shard = w;
+            threads[w] = new Thread(() -> {
+                for (int i = 0; i < perWorker; i++) heap.insert(shard, i);
+                for (int i = 0; i < perWorker / 2; i++) heap.extractLocal(shard);
+            });
+            threads[w].start();
+        }
+        for (Thread t : threads) t.join();
+        assertEquals(workers * perWorker, tracker.getLatencyHistogram(Operation.INSERT).getCount());
+        assertEquals(workers * perWorker / 2, tracker.getLatencyHistogram(Operation.EXTRACT_MIN).getCount());
+        tracker.reset();
+        assertEquals(0, tracker.getLatencyHistogram(Operation.INSERT).getCount());
+    }
+}
@@ -0,0 +1,92 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.metrics.PerformanceTracker;
+
+public class TopKSelectorTest {
+
+    private static int[] largestDescending(int[] data, int k) {
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        int[] top = new int[Math.min(k, sorted.length)];
+        for (int i = 0; i < top.length; i++) top[i] = sorted[sorted.length - 1 - i];
+        return top;
+    }
+
+    @Test
+    public void testKeepsLargestValues() {
+        Random rnd = new Random(3);
+        int[] data = new int[100_000];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt();
+        for (int arity : new int[] {2, 4}) {
+            TopKSelector top = new TopKSelector(100, new PerformanceTracker(), arity);
+            top.offerAll(data, 0, data.length);
+
+            int[] dest = new int[100];
+            assertEquals(100, top.sortedInto(dest));
+            assertArrayEquals(largestDescending(data, 100), dest);
+            assertEquals(dest[99], top.threshold());
+            assertEquals(100, top.capacity());
+        }
+    }
+
+    @Test
+    public void testNeverGrowsPastK() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        TopKSelector top = new TopKSelector(3, tracker);
+        for (int i = 0; i < 10; i++) top.offer(i);
+        assertTrue(top.isFull());
+        assertEquals(3, top.size());
+        assertFalse(top.offer(6));
+        assertTrue(top.offer(10));
+        assertEquals(8, top.threshold());
+        assertEquals(top.size(), tracker.getInsertCount() - tracker.getExtractCount());
+    }
+
+    @Test
+    public void testPartiallyFilledAndSortedIsRepeatable() {
+        TopKSelector top = new TopKSelector(10, new PerformanceTracker());
+        top.offerAll(new int[] {4, -1, 7}, 0, 3);
+        int[] dest = new int[10];
+        assertEquals(3, top.sortedInto(dest));
+        assertEquals(3, top.sortedInto(dest));
+        assertArrayEquals(new int[] {7, 4, -1}, Arrays.copyOf(dest, 3));
+        assertThrows(IllegalArgumentException.class, () -> top.sortedInto(new int[2]));
+    }
+
+    @Test
+    public void testMergeCombinesPartitions() {
+        Random rnd = new Random(5);
+        int[] data = new int[20_000];
+        for (int i = 0; i < data.length; i++) data[i] = rnd.nextInt(1000);
+        TopKSelector left = new TopKSelector(50, new PerformanceTracker());
+        TopKSelector right = new TopKSelector(50, new PerformanceTracker());
+        left.offerAll(data, 0, 10_000);
+        right.offerAll(data, 10_000, 10_000);
+        left.merge(right);
+
+        int[] dest = new int[50];
+        left.sortedInto(dest);
+        assertArrayEquals(largestDescending(data, 50), dest);
+        assertEquals(50, right.size());
+    }
+
+    @Test
+    public void testMergeWithItself() {
+        TopKSelector top = new TopKSelector(4, new PerformanceTracker());
+        top.offerAll(new int[] {1, 5, 3}, 0, 3);
+        top.merge(top);
+        int[] dest = new int[4];
+        assertEquals(4, top.sortedInto(dest));
+        assertArrayEquals(new int[] {5, 5, 3, 3}, dest);
+    }
+}
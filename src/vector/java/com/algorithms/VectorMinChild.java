@@ -0,0 +1,51 @@
+package com.algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// The only class that touches jdk.incubator.vector, compiled only by the vector profile (mvn -Pvector).
+// MinHeap looks it up reflectively once the module is in the boot layer (run with --add-modules
+// jdk.incubator.vector), so the heap works when the class or the module is missing.
+// The species are static finals on purpose: C2 only intrinsifies vector operations whose species is a
+// compile-time constant, and one held in a field falls back to the much slower Java implementation.
+final class VectorMinChild implements MinChildSelector {
+    private static final VectorSpecies<Integer> S128 = IntVector.SPECIES_128;
+    private static final VectorSpecies<Integer> S256 = IntVector.SPECIES_256;
+    private static final VectorSpecies<Integer> S512 = IntVector.SPECIES_512;
+
+    private final int lanes;
+
+    private VectorMinChild(int lanes) {
+        this.lanes = lanes;
+    }
+
+    // null unless arity ints fill exactly one vector the hardware supports
+    static VectorMinChild forArity(int arity) {
+        if (arity != 4 && arity != 8 && arity != 16) return null;
+        if (arity * Integer.SIZE > IntVector.SPECIES_PREFERRED.vectorBitSize()) return null;
+        return new VectorMinChild(arity);
+    }
+
+    // end - c <= arity
+    @Override
+    public int minChild(int[] h, int c, int end) {
+        switch (lanes) {
+            case 4: return minChild(S128, h, c, end);
+            case 8: return minChild(S256, h, c, end);
+            default: return minChild(S512, h, c, end);
+        }
+    }
+
+    private static int minChild(VectorSpecies<Integer> species, int[] h, int c, int end) {
+        if (end - c == species.length()) {
+            IntVector v = IntVector.fromArray(species, h, c);
+            return c + v.eq(v.reduceLanes(VectorOperators.MIN)).firstTrue();
+        }
+        VectorMask<Integer> inRange = species.indexInRange(c, end);
+        IntVector v = IntVector.fromArray(species, h, c, inRange);
+        int min = v.reduceLanes(VectorOperators.MIN, inRange);
+        return c + v.compare(VectorOperators.EQ, min, inRange).firstTrue();
+    }
+}